@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Fast-start builds of the API for instances added under load. Build the jar with the AOT profile first:
+#   ./mvnw -Pfaststart package -DskipTests            (add -Pcrac for checkpoint/restore)
+#
+#   ./faststart.sh cds   [app args]     extract the jar and record CDS archives with a training run
+#   ./faststart.sh crac  [app args]     take a CRaC checkpoint right after the context refreshes (CRaC JDK only)
+#   ./faststart.sh run MODE [app args]  start the API in one mode:
+#       jar      plain executable jar, default profiles (the baseline)
+#       aot      extracted jar, AOT bean definitions, faststart profile
+#       cds      extracted jar, class-data sharing archive, faststart profile
+#       aot-cds  both of the above
+#       crac     restore the checkpoint taken by `crac`
+#       native   the GraalVM executable from ./mvnw -Pnative native:compile, default profiles
+#
+# Training and checkpoint runs start the real context, so they need the database; pass the same datasource
+# arguments (or SPRING_DATASOURCE_* variables) as for a normal start. A CDS archive is only valid for the JDK and
+# jar it was recorded with, and a checkpoint also freezes the configuration it was taken with (port, datasource),
+# so redo both after every build.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+JAR=${JAR:-target/gigsly-backend-api-0.0.1-SNAPSHOT-exec.jar}
+OUT=${OUT:-target/faststart}
+PROFILES=${PROFILES:-faststart}
+APP_JAR="$OUT/app/$(basename "$JAR")"
+
+extract() {
+  rm -rf "$OUT/app"
+  java -Djarmode=tools -jar "$JAR" extract --destination "$OUT/app"
+}
+
+train() {
+  local archive=$1
+  shift
+  # spring.context.exit=onRefresh: load and initialize everything a refresh touches, then exit and dump the archive.
+  java -XX:ArchiveClassesAtExit="$archive" -Dspring.context.exit=onRefresh "$@"
+}
+
+command=${1:-}
+[[ $# -gt 0 ]] && shift
+case "$command" in
+  cds)
+    extract
+    train "$OUT/app.jsa" -jar "$APP_JAR" --spring.profiles.active="$PROFILES" "$@"
+    train "$OUT/app-aot.jsa" -Dspring.aot.enabled=true -jar "$APP_JAR" --spring.profiles.active="$PROFILES" "$@"
+    ;;
+  crac)
+    [[ -f "$APP_JAR" ]] || extract
+    rm -rf "$OUT/crac"
+    # The JVM exits (status 137) once the checkpoint is written.
+    java -XX:CRaCCheckpointTo="$OUT/crac" -Dspring.context.checkpoint=onRefresh -Dspring.aot.enabled=true \
+        -jar "$APP_JAR" --spring.profiles.active="$PROFILES" "$@" || [[ -d "$OUT/crac" ]]
+    ;;
+  run)
+    mode=${1:?"run needs a mode: jar, aot, cds, aot-cds, crac or native"}
+    shift
+    case "$mode" in
+      jar) exec java ${JAVA_OPTS:-} -jar "$JAR" "$@" ;;
+      aot) exec java ${JAVA_OPTS:-} -Dspring.aot.enabled=true -jar "$APP_JAR" --spring.profiles.active="$PROFILES" "$@" ;;
+      cds) exec java ${JAVA_OPTS:-} -XX:SharedArchiveFile="$OUT/app.jsa" -jar "$APP_JAR" \
+          --spring.profiles.active="$PROFILES" "$@" ;;
+      aot-cds) exec java ${JAVA_OPTS:-} -XX:SharedArchiveFile="$OUT/app-aot.jsa" -Dspring.aot.enabled=true \
+          -jar "$APP_JAR" --spring.profiles.active="$PROFILES" "$@" ;;
+      crac) exec java -XX:CRaCRestoreFrom="$OUT/crac" ;;
+      native) exec "${NATIVE_BINARY:-target/gigsly-backend-api}" "$@" ;;
+      *) echo "Unknown mode $mode" >&2; exit 2 ;;
+    esac
+    ;;
+  *)
+    echo "Usage: $0 cds|crac|run MODE [app args]" >&2
+    exit 2
+    ;;
+esac
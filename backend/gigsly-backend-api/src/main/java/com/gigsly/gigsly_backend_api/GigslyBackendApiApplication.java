@@ -1,9 +1,14 @@
 package com.gigsly.gigsly_backend_api;
 
+import com.gigsly.gigsly_backend_api.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class GigslyBackendApiApplication {
 
 	public static void main(String[] args) {
@@ -4,6 +4,7 @@ import com.gigsly.gigsly_backend_api.model.Category;
 import com.gigsly.gigsly_backend_api.repository.CategoryRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
@@ -15,14 +16,19 @@ public class DataInitializer implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
     private final CategoryRepository categoryRepository;
+    private final boolean seedOnStartup;
 
-    public DataInitializer(CategoryRepository categoryRepository) {
+    public DataInitializer(CategoryRepository categoryRepository,
+                           @Value("${app.categories.seed-on-startup:true}") boolean seedOnStartup) {
         this.categoryRepository = categoryRepository;
+        this.seedOnStartup = seedOnStartup;
     }
 
     @Override
     public void run(String... args) {
-        initializeCategories();
+        if (seedOnStartup) {
+            initializeCategories();
+        }
     }
 
     private void initializeCategories() {
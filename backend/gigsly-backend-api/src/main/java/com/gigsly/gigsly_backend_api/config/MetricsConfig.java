@@ -0,0 +1,49 @@
+package com.gigsly.gigsly_backend_api.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Application meters that Boot does not bind on its own. HTTP, repository, Hibernate and connection-pool
+// metrics come from auto-configuration; see the management.* properties.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", new StatementCounter());
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingExecutor executor) {
+        return registry -> {
+            Gauge.builder("gigsly.password.hashing.queued", executor, PasswordHashingExecutor::getQueueDepth)
+                    .description("Password hashes waiting for a hashing thread")
+                    .register(registry);
+            Gauge.builder("gigsly.password.hashing.queue.capacity", executor, PasswordHashingExecutor::getQueueCapacity)
+                    .register(registry);
+            Gauge.builder("gigsly.password.hashing.active", executor, PasswordHashingExecutor::getActiveCount)
+                    .description("Password hashes currently running")
+                    .register(registry);
+            Gauge.builder("gigsly.password.hashing.threads", executor, PasswordHashingExecutor::getPoolSize)
+                    .register(registry);
+            FunctionCounter.builder("gigsly.password.hashing.completed", executor, PasswordHashingExecutor::getCompletedCount)
+                    .register(registry);
+            FunctionCounter.builder("gigsly.password.hashing.rejected", executor, PasswordHashingExecutor::getRejectedCount)
+                    .description("Password hashes rejected with 429 because the queue was full")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder virtualThreadPinningMetrics(ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+        return registry -> pinningMonitor.ifAvailable(monitor ->
+                FunctionCounter.builder("gigsly.virtual-threads.pinned", monitor, VirtualThreadPinningMonitor::getPinnedCount)
+                        .description("Virtual thread pinning events above the monitor threshold")
+                        .register(registry));
+    }
+}
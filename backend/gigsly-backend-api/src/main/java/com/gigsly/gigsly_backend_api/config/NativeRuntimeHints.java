@@ -0,0 +1,90 @@
+package com.gigsly.gigsly_backend_api.config;
+
+import com.gigsly.gigsly_backend_api.exception.ErrorResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+// Reachability metadata for the native image that Spring's AOT processing cannot infer. Runs at build time,
+// so packages are scanned instead of listing classes: a new entity or DTO is covered without touching this file.
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.gigsly.gigsly_backend_api";
+
+    // jjwt-impl and jjwt-jackson are runtime-only; jjwt-api instantiates them by name.
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Entities: Hibernate reads and writes fields and instantiates through the no-arg constructor.
+        for (Class<?> type : classesIn("model", classLoader)) {
+            hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        // Request and response bodies, including nested and generic element types such as CursorPage<T>.
+        for (Class<?> type : classesIn("dto", classLoader)) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+        }
+        bindingRegistrar.registerReflectionHints(hints.reflection(), ErrorResponse.class);
+        // Records built by JPQL constructor expressions (select new ...).
+        for (Class<?> type : classesIn("repository", classLoader)) {
+            if (type.isRecord()) {
+                hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+        // Created with new in SecurityConfig, so the bean definition only exposes AuthenticationProvider.
+        hints.reflection().registerType(PasswordAuthenticationProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // StatementTimingProxy and LazyConnectionDataSourceProxy (replica routing) are JDK proxies.
+        for (Class<?> type : List.of(DataSource.class, Connection.class, Statement.class, PreparedStatement.class,
+                CallableStatement.class, ResultSet.class, ConnectionProxy.class)) {
+            hints.proxies().registerJdkProxy(type);
+        }
+    }
+
+    private static List<Class<?>> classesIn(String subpackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        return scanner.findCandidateComponents(BASE_PACKAGE + "." + subpackage).stream()
+                .<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+                .toList();
+    }
+}
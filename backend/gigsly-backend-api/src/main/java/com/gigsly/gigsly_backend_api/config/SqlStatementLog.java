@@ -0,0 +1,164 @@
+package com.gigsly.gigsly_backend_api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Receives every statement timed by StatementTimingProxy. All statements are aggregated by SQL text for the
+// top-N view; only slow or sampled ones are logged, off the request thread. Literals are replaced by ? and
+// bind values are never captured, so neither the log nor the aggregates contain user data.
+@Component
+public class SqlStatementLog implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementLog.class);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String NO_ROUTE = "-";
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int maxTrackedStatements;
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final Map<String, String> redacted = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+    private final AtomicLong droppedLogLines = new AtomicLong();
+    private final ThreadPoolExecutor logWriter;
+
+    public SqlStatementLog(@Value("${app.sql.log.slow-threshold:200ms}") Duration slowThreshold,
+                           @Value("${app.sql.log.sample-rate:0}") double sampleRate,
+                           @Value("${app.sql.log.max-tracked-statements:1000}") int maxTrackedStatements,
+                           @Value("${app.sql.log.queue-capacity:1024}") int queueCapacity) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.maxTrackedStatements = maxTrackedStatements;
+        this.logWriter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "sql-statement-log");
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, executor) -> droppedLogLines.incrementAndGet());
+    }
+
+    public record StatementSummary(String sql, long count, double totalMillis, double meanMillis, double maxMillis,
+                                   long rows) {
+    }
+
+    // Called on the thread that ran the statement, so the current request's route is still visible.
+    public void record(String sql, String pool, long elapsedNanos, long rows) {
+        String key = redacted.get(sql);
+        if (key == null) {
+            key = redact(sql);
+            if (redacted.size() < maxTrackedStatements * 4) {
+                redacted.put(sql, key);
+            }
+        }
+        StatementStats stats = statements.get(key);
+        if (stats == null && statements.size() < maxTrackedStatements) {
+            stats = statements.computeIfAbsent(key, ignored -> new StatementStats());
+        }
+        if (stats != null) {
+            stats.add(elapsedNanos, rows);
+        } else {
+            untracked.increment();
+        }
+
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        if (slow || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            String route = currentRoute();
+            String logged = key;
+            logWriter.execute(() -> write(slow, logged, pool, route, elapsedNanos, rows));
+        }
+    }
+
+    public List<StatementSummary> top(int limit, Comparator<StatementSummary> order) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    public long getUntrackedCount() {
+        return untracked.sum();
+    }
+
+    public long getDroppedLogLines() {
+        return droppedLogLines.get();
+    }
+
+    public void reset() {
+        statements.clear();
+        untracked.reset();
+    }
+
+    @Override
+    public void destroy() {
+        logWriter.shutdown();
+    }
+
+    static String redact(String sql) {
+        String withoutStrings = STRING_LITERAL.matcher(sql).replaceAll("?");
+        String withoutNumbers = NUMERIC_LITERAL.matcher(withoutStrings).replaceAll("?");
+        return WHITESPACE.matcher(withoutNumbers).replaceAll(" ").trim();
+    }
+
+    private static void write(boolean slow, String sql, String pool, String route, long elapsedNanos, long rows) {
+        double millis = elapsedNanos / 1e6;
+        if (slow) {
+            logger.warn("Slow SQL {} ms, {} rows, pool {}, route {}: {}", String.format("%.1f", millis), rows, pool, route, sql);
+        } else {
+            logger.info("Sampled SQL {} ms, {} rows, pool {}, route {}: {}", String.format("%.1f", millis), rows, pool, route, sql);
+        }
+    }
+
+    private static String currentRoute() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NO_ROUTE;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern == null ? NO_ROUTE : pattern.toString();
+    }
+
+    private static final class StatementStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+
+        void add(long elapsedNanos, long rowCount) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            rows.add(Math.max(0, rowCount));
+        }
+
+        StatementSummary summary(String sql) {
+            long executions = count.sum();
+            double total = totalNanos.sum() / 1e6;
+            return new StatementSummary(sql, executions, total, executions == 0 ? 0 : total / executions,
+                    maxNanos.get() / 1e6, rows.sum());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.gigsly.gigsly_backend_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Wraps every Hikari pool (the single default pool, or primary and replica) so each statement is timed and
+// attributed to its pool. Replaces spring.jpa.show-sql, which printed every statement synchronously.
+@Configuration
+@ConditionalOnProperty(name = "app.sql.log.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementLogConfig {
+
+    @Bean
+    public static BeanPostProcessor statementTimingPostProcessor(ObjectProvider<SqlStatementLog> sqlStatementLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource pool) {
+                    String poolName = pool.getPoolName() != null ? pool.getPoolName() : beanName;
+                    return StatementTimingProxy.wrap(pool, poolName, sqlStatementLog.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.gigsly.gigsly_backend_api.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// GET /actuator/sqlstatements?limit=20&orderBy=total|mean|max|count lists the heaviest statements since
+// startup (or the last DELETE); admin only.
+@Component
+@Endpoint(id = "sqlstatements")
+public class SqlStatementsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlStatementLog sqlStatementLog;
+
+    public SqlStatementsEndpoint(SqlStatementLog sqlStatementLog) {
+        this.sqlStatementLog = sqlStatementLog;
+    }
+
+    @ReadOperation
+    public Map<String, Object> top(@Nullable Integer limit, @Nullable String orderBy) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("orderBy", orderBy == null ? "total" : orderBy.toLowerCase(Locale.ROOT));
+        body.put("statements", sqlStatementLog.top(limit == null || limit < 1 ? DEFAULT_LIMIT : limit, order(orderBy)));
+        body.put("untrackedExecutions", sqlStatementLog.getUntrackedCount());
+        body.put("droppedLogLines", sqlStatementLog.getDroppedLogLines());
+        return body;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatementLog.reset();
+    }
+
+    private static Comparator<SqlStatementLog.StatementSummary> order(String orderBy) {
+        String key = orderBy == null ? "total" : orderBy.toLowerCase(Locale.ROOT);
+        Comparator<SqlStatementLog.StatementSummary> ascending = switch (key) {
+            case "mean" -> Comparator.comparingDouble(SqlStatementLog.StatementSummary::meanMillis);
+            case "max" -> Comparator.comparingDouble(SqlStatementLog.StatementSummary::maxMillis);
+            case "count" -> Comparator.comparingLong(SqlStatementLog.StatementSummary::count);
+            default -> Comparator.comparingDouble(SqlStatementLog.StatementSummary::totalMillis);
+        };
+        return ascending.reversed();
+    }
+}
@@ -0,0 +1,177 @@
+package com.gigsly.gigsly_backend_api.config;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+// JDK proxies around a pool's DataSource, Connection, Statement and ResultSet that time each execute call and
+// count the rows read from its result set. A statement is reported once its result set (or the statement) is
+// closed, so the row count is complete; the reported duration is the execute call alone, not the fetch loop.
+final class StatementTimingProxy {
+
+    private StatementTimingProxy() {
+    }
+
+    static DataSource wrap(DataSource dataSource, String pool, SqlStatementLog log) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = delegate(target, method, args);
+            return result instanceof Connection connection ? wrapConnection(connection, pool, log) : result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection connection, String pool, SqlStatementLog log) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = delegate(target, method, args);
+            String name = method.getName();
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return proxy(CallableStatement.class, statement, new StatementHandler((String) args[0], pool, log));
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return proxy(PreparedStatement.class, statement, new StatementHandler((String) args[0], pool, log));
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return proxy(Statement.class, statement, new StatementHandler(null, pool, log));
+            }
+            return result;
+        });
+    }
+
+    // One handler per statement; JDBC statements are not shared across threads.
+    private static final class StatementHandler implements TargetHandler {
+
+        private final String preparedSql;
+        private final String pool;
+        private final SqlStatementLog log;
+        private Execution pending;
+
+        StatementHandler(String preparedSql, String pool, SqlStatementLog log) {
+            this.preparedSql = preparedSql;
+            this.pool = pool;
+            this.log = log;
+        }
+
+        @Override
+        public Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (name.equals("getResultSet")) {
+                    return wrapResultSet((ResultSet) delegate(target, method, args));
+                }
+                if (name.equals("close")) {
+                    complete();
+                }
+                return delegate(target, method, args);
+            }
+
+            complete();
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            Object result = delegate(target, method, args);
+            Execution execution = new Execution(sql == null ? "(batch)" : sql, System.nanoTime() - start);
+            if (result instanceof ResultSet resultSet) {
+                pending = execution;
+                return wrapResultSet(resultSet);
+            }
+            if (Boolean.TRUE.equals(result)) {
+                // execute() produced a result set; rows are counted when the caller fetches and closes it.
+                pending = execution;
+                return result;
+            }
+            execution.rows = updateCount(result, (Statement) target);
+            log.record(execution.sql, pool, execution.elapsedNanos, execution.rows);
+            return result;
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet) {
+            if (resultSet == null || pending == null) {
+                return resultSet;
+            }
+            Execution execution = pending;
+            return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+                Object result = delegate(target, method, args);
+                if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                    execution.rows++;
+                } else if (method.getName().equals("close")) {
+                    complete();
+                }
+                return result;
+            });
+        }
+
+        private void complete() {
+            if (pending != null) {
+                Execution execution = pending;
+                pending = null;
+                log.record(execution.sql, pool, execution.elapsedNanos, execution.rows);
+            }
+        }
+
+        private static long updateCount(Object result, Statement statement) throws Exception {
+            if (result instanceof Number number) {
+                return number.longValue();
+            }
+            if (result instanceof int[] counts) {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(0, count);
+                }
+                return total;
+            }
+            if (result instanceof long[] counts) {
+                long total = 0;
+                for (long count : counts) {
+                    total += Math.max(0, count);
+                }
+                return total;
+            }
+            return Math.max(0, statement.getUpdateCount());
+        }
+    }
+
+    private static final class Execution {
+
+        private final String sql;
+        private final long elapsedNanos;
+        private long rows;
+
+        Execution(String sql, long elapsedNanos) {
+            this.sql = sql;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+
+    @FunctionalInterface
+    private interface TargetHandler {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, TargetHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> delegate(target, method, args);
+                };
+            }
+            return handler.invoke(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(StatementTimingProxy.class.getClassLoader(), new Class<?>[]{type},
+                invocationHandler));
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.gigsly.gigsly_backend_api.controller;
 
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
 import com.gigsly.gigsly_backend_api.dto.category.CategoryRequest;
 import com.gigsly.gigsly_backend_api.dto.category.CategoryResponse;
+import com.gigsly.gigsly_backend_api.service.CategoryRegistry;
 import com.gigsly.gigsly_backend_api.service.CategoryService;
+import com.gigsly.gigsly_backend_api.service.Etags;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,19 +18,27 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/categories")
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryRegistry categoryRegistry;
+    private final CacheControl cacheControl;
 
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService,
+                              CategoryRegistry categoryRegistry,
+                              @Value("${app.categories.cache-max-age-seconds:300}") long cacheMaxAgeSeconds) {
         this.categoryService = categoryService;
+        this.categoryRegistry = categoryRegistry;
+        this.cacheControl = CacheControl.maxAge(cacheMaxAgeSeconds, TimeUnit.SECONDS).cachePublic();
     }
 
     @PostMapping
@@ -39,13 +53,18 @@ public class CategoryController {
     }
 
     @GetMapping
-    public List<CategoryResponse> getCategories() {
-        return categoryService.getCategories();
+    public ResponseEntity<CursorPage<CategoryResponse>> getCategories(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                      @RequestParam(value = "size", required = false) Integer size,
+                                                                      WebRequest request) {
+        CategoryRegistry.Snapshot snapshot = categoryRegistry.snapshot();
+        String etag = Etags.strong(snapshot.etag(), cursor, size);
+        return ConditionalResponses.withEtag(request, etag, cacheControl,
+                () -> categoryService.getCategories(snapshot, cursor, size));
     }
 
     @GetMapping("/{id}")
-    public CategoryResponse getCategory(@PathVariable @NonNull Long id) {
-        return categoryService.getCategory(id);
+    public ResponseEntity<CategoryResponse> getCategory(@PathVariable @NonNull Long id, WebRequest request) {
+        CategoryResponse category = categoryService.getCategory(id);
+        return ConditionalResponses.withEtag(request, CategoryRegistry.etagOf(category), cacheControl, () -> category);
     }
 }
-
@@ -0,0 +1,64 @@
+package com.gigsly.gigsly_backend_api.controller;
+
+import com.gigsly.gigsly_backend_api.repository.CollectionVersion;
+import com.gigsly.gigsly_backend_api.service.Etags;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+// Answers If-None-Match / If-Modified-Since before the body is built; a match costs no entity load,
+// no mapping and no serialization.
+final class ConditionalResponses {
+
+    // Authenticated, frequently polled data: the browser may keep a copy but must revalidate every time.
+    static final CacheControl REVALIDATE_PRIVATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> withEtag(WebRequest request, String etag, CacheControl cacheControl, Supplier<T> body) {
+        return withValidators(request, etag, null, cacheControl, body);
+    }
+
+    static <T> ResponseEntity<T> withValidators(WebRequest request,
+                                                String etag,
+                                                LocalDateTime lastModified,
+                                                CacheControl cacheControl,
+                                                Supplier<T> body) {
+        long lastModifiedMillis = lastModified == null ? -1
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        boolean notModified = lastModifiedMillis < 0
+                ? request.checkNotModified(etag)
+                : request.checkNotModified(etag, lastModifiedMillis);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(cacheControl);
+        if (lastModifiedMillis >= 0) {
+            builder.lastModified(lastModifiedMillis);
+        }
+        return notModified ? builder.build() : builder.body(body.get());
+    }
+
+    // Single resource: its kind, id and the latest updatedAt of everything its response renders.
+    static String entityEtag(String kind, Long id, LocalDateTime version) {
+        return Etags.strong(kind, id, version);
+    }
+
+    // List endpoint: path, every query parameter (filter, cursor, size), the caller (some lists are "mine")
+    // and the versions of the rows in the page window.
+    static String collectionEtag(WebRequest request, CollectionVersion version) {
+        StringBuilder parameters = new StringBuilder();
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            parameters.append(parameter.getKey()).append('=').append(String.join(",", parameter.getValue())).append('&');
+        }
+        String caller = request.getUserPrincipal() == null ? null : request.getUserPrincipal().getName();
+        return Etags.strong(request.getDescription(false), parameters, caller, version.rows());
+    }
+}
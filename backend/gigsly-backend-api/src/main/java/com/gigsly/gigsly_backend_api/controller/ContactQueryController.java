@@ -1,12 +1,16 @@
 package com.gigsly.gigsly_backend_api.controller;
 
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
 import com.gigsly.gigsly_backend_api.dto.contact.ContactQueryRequest;
 import com.gigsly.gigsly_backend_api.dto.contact.ContactQueryResponse;
 import com.gigsly.gigsly_backend_api.dto.contact.ContactResponseRequest;
 import com.gigsly.gigsly_backend_api.model.QueryStatus;
 import com.gigsly.gigsly_backend_api.service.ContactQueryService;
+import com.gigsly.gigsly_backend_api.service.ExportFormat;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,17 +20,22 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/contact-queries")
 public class ContactQueryController {
 
     private final ContactQueryService contactQueryService;
+    private final Duration exportTimeout;
 
-    public ContactQueryController(ContactQueryService contactQueryService) {
+    public ContactQueryController(ContactQueryService contactQueryService,
+                                  @Value("${app.export.request-timeout:10m}") Duration exportTimeout) {
         this.contactQueryService = contactQueryService;
+        this.exportTimeout = exportTimeout;
     }
 
     @PostMapping
@@ -42,8 +51,18 @@ public class ContactQueryController {
     }
 
     @GetMapping
-    public List<ContactQueryResponse> listQueries(@RequestParam(value = "status", required = false) QueryStatus status) {
-        return contactQueryService.listQueries(status);
+    public CursorPage<ContactQueryResponse> listQueries(@RequestParam(value = "status", required = false) QueryStatus status,
+                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                        @RequestParam(value = "size", required = false) Integer size) {
+        return contactQueryService.listQueries(status, cursor, size);
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamQueries(@RequestParam(value = "status", required = false) QueryStatus status,
+                                                               @RequestParam(value = "format", defaultValue = "JSON") ExportFormat format,
+                                                               WebRequest request) {
+        return StreamingResponses.export(request, exportTimeout, format,
+                contactQueryService.streamQueries(status, format));
     }
 
     @GetMapping("/{id}")
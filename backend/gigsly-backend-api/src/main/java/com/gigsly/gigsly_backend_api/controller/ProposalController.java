@@ -1,11 +1,14 @@
 package com.gigsly.gigsly_backend_api.controller;
 
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
 import com.gigsly.gigsly_backend_api.dto.proposal.ProposalRequest;
 import com.gigsly.gigsly_backend_api.dto.proposal.ProposalResponse;
 import com.gigsly.gigsly_backend_api.dto.proposal.ProposalStatusUpdateRequest;
+import com.gigsly.gigsly_backend_api.repository.CollectionVersion;
 import com.gigsly.gigsly_backend_api.service.ProposalService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,7 +18,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -40,19 +45,32 @@ public class ProposalController {
     }
 
     @GetMapping("/{id}")
-    public ProposalResponse getProposal(@PathVariable @NonNull Long id) {
-        return proposalService.getProposal(id);
+    public ResponseEntity<ProposalResponse> getProposal(@PathVariable @NonNull Long id, WebRequest request) {
+        LocalDateTime version = proposalService.getProposalVersion(id);
+        return ConditionalResponses.withValidators(request, ConditionalResponses.entityEtag("proposal", id, version), version,
+                ConditionalResponses.REVALIDATE_PRIVATE, () -> proposalService.getProposal(id));
     }
 
     @GetMapping
-    public List<ProposalResponse> getProposals(@RequestParam(value = "taskId", required = false) Long taskId,
-                                               @RequestParam(value = "professionalId", required = false) Long professionalId) {
-        return proposalService.getProposals(taskId, professionalId);
+    public ResponseEntity<CursorPage<ProposalResponse>> getProposals(@RequestParam(value = "taskId", required = false) Long taskId,
+                                                                     @RequestParam(value = "professionalId", required = false) Long professionalId,
+                                                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                                                     @RequestParam(value = "size", required = false) Integer size,
+                                                                     WebRequest request) {
+        CollectionVersion version = proposalService.getProposalsVersion(taskId, professionalId, cursor, size);
+        return ConditionalResponses.withValidators(request, ConditionalResponses.collectionEtag(request, version),
+                version.lastModified(), ConditionalResponses.REVALIDATE_PRIVATE,
+                () -> proposalService.getProposals(taskId, professionalId, cursor, size));
     }
 
     @GetMapping("/mine")
-    public List<ProposalResponse> getMyProposals() {
-        return proposalService.getProposalsForCurrentUser();
+    public ResponseEntity<CursorPage<ProposalResponse>> getMyProposals(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                       @RequestParam(value = "size", required = false) Integer size,
+                                                                       WebRequest request) {
+        CollectionVersion version = proposalService.getProposalsForCurrentUserVersion(cursor, size);
+        return ConditionalResponses.withValidators(request, ConditionalResponses.collectionEtag(request, version),
+                version.lastModified(), ConditionalResponses.REVALIDATE_PRIVATE,
+                () -> proposalService.getProposalsForCurrentUser(cursor, size));
     }
 
     @GetMapping("/task/{taskId}")
@@ -0,0 +1,27 @@
+package com.gigsly.gigsly_backend_api.controller;
+
+import com.gigsly.gigsly_backend_api.service.ExportFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+// Exports stream on the MVC async executor and may run for minutes. The long timeout goes on the export's own async
+// request, so every other async request keeps the container's default.
+final class StreamingResponses {
+
+    private StreamingResponses() {
+    }
+
+    // Must run in the handler: StreamingResponseBody starts async processing without a timeout of its own and keeps
+    // whatever the request has by then.
+    static ResponseEntity<StreamingResponseBody> export(WebRequest request, Duration timeout, ExportFormat format,
+                                                        StreamingResponseBody body) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(timeout.toMillis());
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+}
@@ -1,13 +1,22 @@
 package com.gigsly.gigsly_backend_api.controller;
 
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
 import com.gigsly.gigsly_backend_api.dto.task.AssignProfessionalRequest;
+import com.gigsly.gigsly_backend_api.dto.task.TaskFilter;
 import com.gigsly.gigsly_backend_api.dto.task.TaskRequest;
 import com.gigsly.gigsly_backend_api.dto.task.TaskResponse;
 import com.gigsly.gigsly_backend_api.dto.task.TaskStatusUpdateRequest;
+import com.gigsly.gigsly_backend_api.dto.user.ProfessionalRecommendationResponse;
 import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import com.gigsly.gigsly_backend_api.repository.CollectionVersion;
+import com.gigsly.gigsly_backend_api.service.ExportFormat;
+import com.gigsly.gigsly_backend_api.service.RecommendationService;
+import com.gigsly.gigsly_backend_api.service.TaskFeedService;
 import com.gigsly.gigsly_backend_api.service.TaskService;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,7 +26,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -25,9 +38,18 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final RecommendationService recommendationService;
+    private final TaskFeedService taskFeedService;
+    private final Duration exportTimeout;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          RecommendationService recommendationService,
+                          TaskFeedService taskFeedService,
+                          @Value("${app.export.request-timeout:10m}") Duration exportTimeout) {
         this.taskService = taskService;
+        this.recommendationService = recommendationService;
+        this.taskFeedService = taskFeedService;
+        this.exportTimeout = exportTimeout;
     }
 
     @PostMapping
@@ -42,15 +64,44 @@ public class TaskController {
     }
 
     @GetMapping("/{id}")
-    public TaskResponse getTask(@PathVariable @NonNull Long id) {
-        return taskService.getTask(id);
+    public ResponseEntity<TaskResponse> getTask(@PathVariable @NonNull Long id, WebRequest request) {
+        LocalDateTime version = taskService.getTaskVersion(id);
+        return ConditionalResponses.withValidators(request, ConditionalResponses.entityEtag("task", id, version), version,
+                ConditionalResponses.REVALIDATE_PRIVATE, () -> taskService.getTask(id));
     }
 
     @GetMapping
-    public List<TaskResponse> listTasks(@RequestParam(value = "status", required = false) TaskStatus status,
-                                        @RequestParam(value = "categoryId", required = false) Long categoryId,
-                                        @RequestParam(value = "clientId", required = false) Long clientId) {
-        return taskService.getTasks(status, categoryId, clientId);
+    public ResponseEntity<CursorPage<TaskResponse>> listTasks(TaskFilter filter,
+                                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                                              @RequestParam(value = "size", required = false) Integer size,
+                                                              WebRequest request) {
+        CollectionVersion version = taskService.getTasksVersion(filter, cursor, size);
+        return ConditionalResponses.withValidators(request, ConditionalResponses.collectionEtag(request, version),
+                version.lastModified(), ConditionalResponses.REVALIDATE_PRIVATE,
+                () -> taskService.getTasks(filter, cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamTasks(@RequestParam(value = "status", required = false) TaskStatus status,
+                                                             @RequestParam(value = "categoryId", required = false) Long categoryId,
+                                                             @RequestParam(value = "format", defaultValue = "JSON") ExportFormat format,
+                                                             WebRequest request) {
+        return StreamingResponses.export(request, exportTimeout, format,
+                taskService.streamTasks(status, categoryId, format));
+    }
+
+    @GetMapping("/search")
+    public List<TaskResponse> searchTasks(@RequestParam("q") String query,
+                                          @RequestParam(value = "status", required = false) TaskStatus status,
+                                          @RequestParam(value = "categoryId", required = false) Long categoryId,
+                                          @RequestParam(value = "size", required = false) Integer size) {
+        return taskService.searchTasks(query, status, categoryId, size);
+    }
+
+    @GetMapping("/feed")
+    public CursorPage<TaskResponse> feed(@RequestParam(value = "cursor", required = false) String cursor,
+                                         @RequestParam(value = "size", required = false) Integer size) {
+        return taskFeedService.getFeed(cursor, size);
     }
 
     @GetMapping("/mine")
@@ -58,6 +109,12 @@ public class TaskController {
         return taskService.getTasksForCurrentUser();
     }
 
+    @GetMapping("/{id}/recommended-professionals")
+    public List<ProfessionalRecommendationResponse> recommendedProfessionals(@PathVariable @NonNull Long id,
+                                                                             @RequestParam(value = "size", required = false) Integer size) {
+        return recommendationService.recommendProfessionals(id, size);
+    }
+
     @PostMapping("/{id}/assign")
     public TaskResponse assignProfessional(@PathVariable @NonNull Long id, @Valid @RequestBody AssignProfessionalRequest request) {
         return taskService.assignProfessional(id, request.getProfessionalId());
@@ -1,12 +1,18 @@
 package com.gigsly.gigsly_backend_api.controller;
 
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
 import com.gigsly.gigsly_backend_api.dto.user.ProfessionalProfileRequest;
 import com.gigsly.gigsly_backend_api.dto.user.UserRequest;
 import com.gigsly.gigsly_backend_api.dto.user.UserResponse;
 import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.CollectionVersion;
+import com.gigsly.gigsly_backend_api.service.CurrentUserService;
+import com.gigsly.gigsly_backend_api.service.ExportFormat;
 import com.gigsly.gigsly_backend_api.service.UserService;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,17 +23,25 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
     private final UserService userService;
+    private final CurrentUserService currentUserService;
+    private final Duration exportTimeout;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, CurrentUserService currentUserService,
+                          @Value("${app.export.request-timeout:10m}") Duration exportTimeout) {
         this.userService = userService;
+        this.currentUserService = currentUserService;
+        this.exportTimeout = exportTimeout;
     }
 
     @PostMapping
@@ -37,18 +51,37 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public UserResponse getUser(@PathVariable @NonNull Long id) {
-        return userService.getUser(id);
+    public ResponseEntity<UserResponse> getUser(@PathVariable @NonNull Long id, WebRequest request) {
+        LocalDateTime version = userService.getUserVersion(id);
+        return ConditionalResponses.withValidators(request, ConditionalResponses.entityEtag("user", id, version), version,
+                ConditionalResponses.REVALIDATE_PRIVATE, () -> userService.getUser(id));
     }
 
     @GetMapping
-    public List<UserResponse> listUsers(@RequestParam(value = "role", required = false) UserRole role) {
-        return userService.getUsers(role);
+    public ResponseEntity<CursorPage<UserResponse>> listUsers(@RequestParam(value = "role", required = false) UserRole role,
+                                                              @RequestParam(value = "skill", required = false) String skill,
+                                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                                              @RequestParam(value = "size", required = false) Integer size,
+                                                              WebRequest request) {
+        CollectionVersion version = userService.getUsersVersion(role, skill, cursor, size);
+        return ConditionalResponses.withValidators(request, ConditionalResponses.collectionEtag(request, version),
+                version.lastModified(), ConditionalResponses.REVALIDATE_PRIVATE,
+                () -> userService.getUsers(role, skill, cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamUsers(@RequestParam(value = "role", required = false) UserRole role,
+                                                             @RequestParam(value = "format", defaultValue = "JSON") ExportFormat format,
+                                                             WebRequest request) {
+        return StreamingResponses.export(request, exportTimeout, format, userService.streamUsers(role, format));
     }
 
     @GetMapping("/me")
-    public UserResponse getMe() {
-        return userService.getCurrentUserProfile();
+    public ResponseEntity<UserResponse> getMe(WebRequest request) {
+        Long id = currentUserService.getCurrentPrincipal().getId();
+        LocalDateTime version = userService.getUserVersion(id);
+        return ConditionalResponses.withValidators(request, ConditionalResponses.entityEtag("user", id, version), version,
+                ConditionalResponses.REVALIDATE_PRIVATE, userService::getCurrentUserProfile);
     }
 
     @PutMapping("/me/profile")
@@ -0,0 +1,103 @@
+package com.gigsly.gigsly_backend_api.dto.task;
+
+import com.gigsly.gigsly_backend_api.model.TaskPriority;
+import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class TaskFilter {
+
+    private TaskStatus status;
+
+    private Long categoryId;
+
+    private Long clientId;
+
+    private BigDecimal budgetMin;
+
+    private BigDecimal budgetMax;
+
+    private TaskPriority priority;
+
+    private Boolean remote;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime deadlineFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime deadlineTo;
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(Long clientId) {
+        this.clientId = clientId;
+    }
+
+    public BigDecimal getBudgetMin() {
+        return budgetMin;
+    }
+
+    public void setBudgetMin(BigDecimal budgetMin) {
+        this.budgetMin = budgetMin;
+    }
+
+    public BigDecimal getBudgetMax() {
+        return budgetMax;
+    }
+
+    public void setBudgetMax(BigDecimal budgetMax) {
+        this.budgetMax = budgetMax;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public Boolean getRemote() {
+        return remote;
+    }
+
+    public void setRemote(Boolean remote) {
+        this.remote = remote;
+    }
+
+    public LocalDateTime getDeadlineFrom() {
+        return deadlineFrom;
+    }
+
+    public void setDeadlineFrom(LocalDateTime deadlineFrom) {
+        this.deadlineFrom = deadlineFrom;
+    }
+
+    public LocalDateTime getDeadlineTo() {
+        return deadlineTo;
+    }
+
+    public void setDeadlineTo(LocalDateTime deadlineTo) {
+        this.deadlineTo = deadlineTo;
+    }
+}
@@ -0,0 +1,58 @@
+package com.gigsly.gigsly_backend_api.dto.user;
+
+public class ProfessionalRecommendationResponse {
+    private UserResponse professional;
+    private double score;
+    private int matchedSkills;
+    private int requiredSkills;
+    private boolean categoryMatch;
+    private long activeTasks;
+
+    public UserResponse getProfessional() {
+        return professional;
+    }
+
+    public void setProfessional(UserResponse professional) {
+        this.professional = professional;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public int getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(int matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+
+    public int getRequiredSkills() {
+        return requiredSkills;
+    }
+
+    public void setRequiredSkills(int requiredSkills) {
+        this.requiredSkills = requiredSkills;
+    }
+
+    public boolean isCategoryMatch() {
+        return categoryMatch;
+    }
+
+    public void setCategoryMatch(boolean categoryMatch) {
+        this.categoryMatch = categoryMatch;
+    }
+
+    public long getActiveTasks() {
+        return activeTasks;
+    }
+
+    public void setActiveTasks(long activeTasks) {
+        this.activeTasks = activeTasks;
+    }
+}
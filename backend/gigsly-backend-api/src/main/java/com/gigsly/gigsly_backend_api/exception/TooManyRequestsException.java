@@ -0,0 +1,7 @@
+package com.gigsly.gigsly_backend_api.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
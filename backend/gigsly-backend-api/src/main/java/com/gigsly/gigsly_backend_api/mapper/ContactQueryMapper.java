@@ -2,8 +2,13 @@ package com.gigsly.gigsly_backend_api.mapper;
 
 import com.gigsly.gigsly_backend_api.dto.contact.ContactQueryResponse;
 import com.gigsly.gigsly_backend_api.model.ContactQuery;
+import com.gigsly.gigsly_backend_api.model.QueryStatus;
 import com.gigsly.gigsly_backend_api.model.User;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
 public final class ContactQueryMapper {
 
     private ContactQueryMapper() {
@@ -30,5 +35,27 @@ public final class ContactQueryMapper {
 
         return response;
     }
-}
 
+    // Row of ContactQueryService.EXPORT_SQL; goes through the same mapping as entities so both shapes stay identical.
+    public static ContactQueryResponse fromRow(ResultSet row) throws SQLException {
+        ContactQuery query = new ContactQuery();
+        query.setId(row.getLong("id"));
+        query.setName(row.getString("name"));
+        query.setEmail(row.getString("email"));
+        query.setMobile(row.getString("mobile"));
+        query.setQueryType(row.getString("query_type"));
+        query.setMessage(row.getString("message"));
+        query.setStatus(QueryStatus.valueOf(row.getString("status")));
+        query.setAdminResponse(row.getString("admin_response"));
+        query.setRespondedAt(row.getObject("responded_at", LocalDateTime.class));
+        query.setCreatedAt(row.getObject("created_at", LocalDateTime.class));
+        Long adminId = row.getObject("responded_by", Long.class);
+        if (adminId != null) {
+            User admin = new User();
+            admin.setId(adminId);
+            admin.setFullName(row.getString("responded_by_name"));
+            query.setRespondedBy(admin);
+        }
+        return toResponse(query);
+    }
+}
@@ -1,15 +1,31 @@
 package com.gigsly.gigsly_backend_api.mapper;
 
 import com.gigsly.gigsly_backend_api.dto.task.TaskResponse;
+import com.gigsly.gigsly_backend_api.model.Category;
 import com.gigsly.gigsly_backend_api.model.Task;
+import com.gigsly.gigsly_backend_api.model.TaskPriority;
+import com.gigsly.gigsly_backend_api.model.TaskStatus;
 import com.gigsly.gigsly_backend_api.model.User;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
 public final class TaskMapper {
 
     private TaskMapper() {
     }
 
     public static TaskResponse toResponse(Task task) {
+        TaskResponse response = toResponse(task, null);
+        if (task.getCategory() != null) {
+            response.setCategoryName(task.getCategory().getName());
+        }
+        return response;
+    }
+
+    // For callers that already know the category name; only the category id is read, so a lazy reference stays uninitialized.
+    public static TaskResponse toResponse(Task task, String categoryName) {
         TaskResponse response = new TaskResponse();
         response.setId(task.getId());
         response.setTitle(task.getTitle());
@@ -32,7 +48,7 @@ public final class TaskMapper {
 
         if (task.getCategory() != null) {
             response.setCategoryId(task.getCategory().getId());
-            response.setCategoryName(task.getCategory().getName());
+            response.setCategoryName(categoryName);
         }
 
         User professional = task.getAssignedProfessional();
@@ -45,5 +61,42 @@ public final class TaskMapper {
         response.setUpdatedAt(task.getUpdatedAt());
         return response;
     }
-}
 
+    // Row of TaskService.EXPORT_SQL; goes through the same mapping as entities so both shapes stay identical.
+    public static TaskResponse fromRow(ResultSet row) throws SQLException {
+        Task task = new Task();
+        task.setId(row.getLong("id"));
+        task.setTitle(row.getString("title"));
+        task.setDescription(row.getString("description"));
+        task.setStatus(TaskStatus.valueOf(row.getString("status")));
+        String priority = row.getString("priority_level");
+        task.setPriority(priority == null ? null : TaskPriority.valueOf(priority));
+        task.setBudgetMin(row.getBigDecimal("budget_min"));
+        task.setBudgetMax(row.getBigDecimal("budget_max"));
+        task.setDeadline(row.getObject("deadline", LocalDateTime.class));
+        task.setRequiredSkills(row.getString("required_skills"));
+        task.setLocation(row.getString("location"));
+        task.setIsRemote(row.getObject("is_remote", Boolean.class));
+        task.setEstimatedDuration(row.getString("estimated_duration"));
+        task.setCreatedAt(row.getObject("created_at", LocalDateTime.class));
+        task.setUpdatedAt(row.getObject("updated_at", LocalDateTime.class));
+        task.setClient(namedUser(row.getObject("client_id", Long.class), row.getString("client_name")));
+        task.setAssignedProfessional(namedUser(row.getObject("professional_id", Long.class),
+                row.getString("professional_name")));
+        Category category = new Category();
+        category.setId(row.getLong("category_id"));
+        category.setName(row.getString("category_name"));
+        task.setCategory(category);
+        return toResponse(task);
+    }
+
+    private static User namedUser(Long id, String fullName) {
+        if (id == null) {
+            return null;
+        }
+        User user = new User();
+        user.setId(id);
+        user.setFullName(fullName);
+        return user;
+    }
+}
@@ -3,7 +3,11 @@ package com.gigsly.gigsly_backend_api.mapper;
 import com.gigsly.gigsly_backend_api.dto.user.UserRequest;
 import com.gigsly.gigsly_backend_api.dto.user.UserResponse;
 import com.gigsly.gigsly_backend_api.model.User;
+import com.gigsly.gigsly_backend_api.model.UserRole;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -48,6 +52,12 @@ public final class UserMapper {
         response.setSkills(splitSkills(user.getSkills()));
         response.setHourlyRate(user.getHourlyRate());
         response.setLocation(user.getLocation());
+        int reviewCount = user.getReviewCount() == null ? 0 : user.getReviewCount();
+        response.setReviewCount(reviewCount);
+        response.setAverageRating(reviewCount == 0 || user.getRatingSum() == null
+                ? null
+                : user.getRatingSum() / (double) reviewCount);
+        response.setCompletedProjects(user.getCompletedProjects() == null ? 0L : user.getCompletedProjects());
         response.setCreatedAt(user.getCreatedAt());
         response.setUpdatedAt(user.getUpdatedAt());
         return response;
@@ -72,5 +82,28 @@ public final class UserMapper {
                 .filter(s -> !s.isEmpty())
                 .collect(Collectors.toList());
     }
-}
 
+    // Row of UserService.EXPORT_SQL; goes through the same mapping as entities so both shapes stay identical.
+    public static UserResponse fromRow(ResultSet row) throws SQLException {
+        User user = new User();
+        user.setId(row.getLong("id"));
+        user.setFullName(row.getString("full_name"));
+        user.setEmail(row.getString("email"));
+        user.setMobile(row.getString("mobile"));
+        user.setRole(UserRole.valueOf(row.getString("role")));
+        user.setIsVerified(row.getObject("is_verified", Boolean.class));
+        user.setIsActive(row.getObject("is_active", Boolean.class));
+        user.setBio(row.getString("bio"));
+        user.setProfilePictureUrl(row.getString("profile_picture_url"));
+        user.setPrimaryCategory(row.getString("primary_category"));
+        user.setSkills(row.getString("skills"));
+        user.setHourlyRate(row.getBigDecimal("hourly_rate"));
+        user.setLocation(row.getString("location"));
+        user.setReviewCount(row.getInt("review_count"));
+        user.setRatingSum(row.getLong("rating_sum"));
+        user.setCompletedProjects(row.getLong("completed_projects"));
+        user.setCreatedAt(row.getObject("created_at", LocalDateTime.class));
+        user.setUpdatedAt(row.getObject("updated_at", LocalDateTime.class));
+        return toResponse(user);
+    }
+}
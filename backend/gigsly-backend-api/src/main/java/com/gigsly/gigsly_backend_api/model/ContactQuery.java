@@ -8,7 +8,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "contact_queries")
+@Table(name = "contact_queries", indexes = {
+        @Index(name = "idx_contact_queries_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_contact_queries_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_contact_queries_responded_by", columnList = "responded_by")
+})
 public class ContactQuery {
 
     @Id
@@ -10,7 +10,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "proposals")
+@Table(name = "proposals", indexes = {
+        @Index(name = "idx_proposals_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_proposals_task_created_at_id", columnList = "task_id, created_at, id"),
+        @Index(name = "idx_proposals_professional_created_at_id", columnList = "professional_id, created_at, id")
+})
 public class Proposal {
 
     @Id
@@ -10,7 +10,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_reviewee_id", columnList = "reviewee_id"),
+        @Index(name = "idx_reviews_reviewer_id", columnList = "reviewer_id"),
+        @Index(name = "idx_reviews_task_reviewer_reviewee", columnList = "task_id, reviewer_id, reviewee_id")
+})
 public class Review {
 
     @Id
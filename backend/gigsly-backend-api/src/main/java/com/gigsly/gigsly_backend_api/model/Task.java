@@ -13,7 +13,15 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_tasks_category_status", columnList = "category_id, status"),
+        @Index(name = "idx_tasks_client_status", columnList = "client_id, status"),
+        @Index(name = "idx_tasks_professional_status", columnList = "assigned_professional_id, status"),
+        @Index(name = "idx_tasks_status_deadline", columnList = "status, deadline"),
+        @Index(name = "idx_tasks_status_budget", columnList = "status, budget_min, budget_max")
+})
 public class Task {
 
     @Id
@@ -89,6 +97,14 @@ public class Task {
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Review> reviews = new HashSet<>();
 
+    // Normalized counterpart of the free-text skills column, kept in sync by SkillService.
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "task_skills",
+            joinColumns = @JoinColumn(name = "task_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_task_skills_skill_id", columnList = "skill_id"))
+    private Set<Skill> skillSet = new HashSet<>();
+
     // Constructors
     public Task() {
     }
@@ -260,5 +276,12 @@ public class Task {
     public void setReviews(Set<Review> reviews) {
         this.reviews = reviews;
     }
-}
 
+    public Set<Skill> getSkillSet() {
+        return skillSet;
+    }
+
+    public void setSkillSet(Set<Skill> skillSet) {
+        this.skillSet = skillSet;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,7 +14,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_users_role_created_at_id", columnList = "role, created_at, id")
+})
 public class User {
 
     @Id
@@ -66,6 +70,19 @@ public class User {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    // Aggregates maintained by UserStatsService; rebuilt from reviews/tasks by its reconciliation job.
+    @ColumnDefault("0")
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum = 0L;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_projects", nullable = false)
+    private Long completedProjects = 0L;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -87,6 +104,14 @@ public class User {
     @OneToMany(mappedBy = "reviewee", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Review> reviewsReceived = new HashSet<>();
 
+    // Normalized counterpart of the free-text skills column, kept in sync by SkillService.
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "user_skills",
+            joinColumns = @JoinColumn(name = "user_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_user_skills_skill_id", columnList = "skill_id"))
+    private Set<Skill> skillSet = new HashSet<>();
+
     // Constructors
     public User() {
     }
@@ -211,6 +236,30 @@ public class User {
         this.isActive = isActive;
     }
 
+    public Integer getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(Integer reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public Long getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(Long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public Long getCompletedProjects() {
+        return completedProjects;
+    }
+
+    public void setCompletedProjects(Long completedProjects) {
+        this.completedProjects = completedProjects;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -258,5 +307,12 @@ public class User {
     public void setReviewsReceived(Set<Review> reviewsReceived) {
         this.reviewsReceived = reviewsReceived;
     }
-}
 
+    public Set<Skill> getSkillSet() {
+        return skillSet;
+    }
+
+    public void setSkillSet(Set<Skill> skillSet) {
+        this.skillSet = skillSet;
+    }
+}
@@ -2,12 +2,13 @@ package com.gigsly.gigsly_backend_api.repository;
 
 import com.gigsly.gigsly_backend_api.model.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+public interface CategoryRepository extends JpaRepository<Category, Long>, JpaSpecificationExecutor<Category> {
     boolean existsByNameIgnoreCase(String name);
 
     Optional<Category> findByNameIgnoreCase(String name);
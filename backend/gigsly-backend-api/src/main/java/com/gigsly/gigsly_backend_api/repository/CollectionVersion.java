@@ -0,0 +1,7 @@
+package com.gigsly.gigsly_backend_api.repository;
+
+import java.time.LocalDateTime;
+
+// rows lists the id and version of each row in the page window; lastModified is the newest of those versions.
+public record CollectionVersion(String rows, LocalDateTime lastModified) {
+}
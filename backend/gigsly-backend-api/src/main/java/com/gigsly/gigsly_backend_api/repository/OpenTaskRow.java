@@ -0,0 +1,12 @@
+package com.gigsly.gigsly_backend_api.repository;
+
+import java.math.BigDecimal;
+
+// The columns OpenTaskIndex scores on, without the TEXT columns of a full Task.
+public record OpenTaskRow(Long id,
+                          String categoryName,
+                          BigDecimal budgetMin,
+                          BigDecimal budgetMax,
+                          Boolean remote,
+                          String location) {
+}
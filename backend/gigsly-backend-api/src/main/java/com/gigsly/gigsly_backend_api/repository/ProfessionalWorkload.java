@@ -0,0 +1,4 @@
+package com.gigsly.gigsly_backend_api.repository;
+
+public record ProfessionalWorkload(Long professionalId, Long activeTasks) {
+}
@@ -1,15 +1,34 @@
 package com.gigsly.gigsly_backend_api.repository;
 
 import com.gigsly.gigsly_backend_api.model.Proposal;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProposalRepository extends JpaRepository<Proposal, Long> {
+public interface ProposalRepository extends JpaRepository<Proposal, Long>, JpaSpecificationExecutor<Proposal> {
+    // Associations read by ProposalMapper; fetched in the same statement to avoid per-row lazy loads.
+    List<String> RESPONSE_GRAPH = List.of("task", "professional");
+
+    @EntityGraph(attributePaths = {"task", "professional"})
+    Optional<Proposal> findDetailedById(Long id);
+
+    @Query("select greatest(coalesce(p.updatedAt, p.createdAt), coalesce(t.updatedAt, p.createdAt), "
+            + "coalesce(u.updatedAt, p.createdAt)) "
+            + "from Proposal p left join p.task t left join p.professional u where p.id = :id")
+    Optional<LocalDateTime> findVersionById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = {"task", "professional"})
     List<Proposal> findByTaskId(Long taskId);
 
+    @EntityGraph(attributePaths = {"task", "professional"})
     List<Proposal> findByProfessionalId(Long professionalId);
 
     boolean existsByTaskIdAndProfessionalId(Long taskId, Long professionalId);
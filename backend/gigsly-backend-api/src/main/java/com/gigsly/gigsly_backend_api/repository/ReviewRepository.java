@@ -1,6 +1,7 @@
 package com.gigsly.gigsly_backend_api.repository;
 
 import com.gigsly.gigsly_backend_api.model.Review;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,8 +9,11 @@ import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+    // ReviewMapper only reads the task id, which is available on the unfetched proxy.
+    @EntityGraph(attributePaths = {"reviewer", "reviewee"})
     List<Review> findByRevieweeId(Long revieweeId);
 
+    @EntityGraph(attributePaths = {"reviewer", "reviewee"})
     List<Review> findByReviewerId(Long reviewerId);
 
     boolean existsByTaskIdAndReviewerIdAndRevieweeId(Long taskId, Long reviewerId, Long revieweeId);
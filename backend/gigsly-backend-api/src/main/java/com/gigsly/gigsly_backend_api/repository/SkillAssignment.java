@@ -0,0 +1,5 @@
+package com.gigsly.gigsly_backend_api.repository;
+
+// One (owner, skill) row of user_skills or task_skills, used to build in-memory skill bitsets.
+public record SkillAssignment(Long ownerId, Long skillId) {
+}
@@ -0,0 +1,25 @@
+package com.gigsly.gigsly_backend_api.repository;
+
+import com.gigsly.gigsly_backend_api.model.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Long> {
+    Optional<Skill> findByName(String name);
+
+    List<Skill> findByNameIn(Collection<String> names);
+
+    // Concurrent sign-ups may introduce the same skill; the unique name wins without failing either transaction.
+    @Modifying
+    @Query(value = "INSERT INTO skills (name, created_at) VALUES (:name, now()) ON CONFLICT (name) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+}
@@ -2,21 +2,87 @@ package com.gigsly.gigsly_backend_api.repository;
 
 import com.gigsly.gigsly_backend_api.model.Task;
 import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+    // Associations read by TaskMapper; fetched in the same statement to avoid per-row lazy loads.
+    List<String> RESPONSE_GRAPH = List.of("client", "category", "assignedProfessional");
+
+    // Must match the expression of idx_tasks_search (db/migration/V1__initial_schema.sql) exactly for the GIN index to be used.
+    String SEARCH_VECTOR = "(setweight(to_tsvector('english', coalesce(t.title, '')), 'A')"
+            + " || setweight(to_tsvector('english', coalesce(t.required_skills, '')), 'B')"
+            + " || setweight(to_tsvector('english', coalesce(t.description, '')), 'C'))";
+
+    @EntityGraph(attributePaths = {"client", "category", "assignedProfessional"})
+    Optional<Task> findDetailedById(Long id);
+
+    // Latest change to anything a TaskResponse renders: the task, its client, professional and category.
+    @Query("select greatest(coalesce(t.updatedAt, t.createdAt), coalesce(c.updatedAt, t.createdAt), "
+            + "coalesce(p.updatedAt, t.createdAt), coalesce(cat.updatedAt, t.createdAt)) "
+            + "from Task t left join t.client c left join t.assignedProfessional p left join t.category cat "
+            + "where t.id = :id")
+    Optional<LocalDateTime> findVersionById(@Param("id") Long id);
+
     List<Task> findByStatus(TaskStatus status);
 
     List<Task> findByCategoryId(Long categoryId);
 
+    @EntityGraph(attributePaths = {"client", "category", "assignedProfessional"})
     List<Task> findByClientId(Long clientId);
 
+    @EntityGraph(attributePaths = {"client", "category", "assignedProfessional"})
     List<Task> findByAssignedProfessionalId(Long professionalId);
 
+    @EntityGraph(attributePaths = {"client", "category", "assignedProfessional"})
+    List<Task> findByIdIn(Collection<Long> ids);
+
+    @Query(value = "SELECT t.id FROM tasks t, to_tsquery('english', :query) q"
+            + " WHERE " + SEARCH_VECTOR + " @@ q"
+            + " AND (CAST(:status AS varchar) IS NULL OR t.status = CAST(:status AS varchar))"
+            + " AND (CAST(:categoryId AS bigint) IS NULL OR t.category_id = CAST(:categoryId AS bigint))"
+            + " ORDER BY ts_rank(" + SEARCH_VECTOR + ", q) DESC, t.created_at DESC, t.id DESC"
+            + " LIMIT :limit", nativeQuery = true)
+    List<Long> searchIds(@Param("query") String query,
+                         @Param("status") String status,
+                         @Param("categoryId") Long categoryId,
+                         @Param("limit") int limit);
+
+    @Query("select new com.gigsly.gigsly_backend_api.repository.OpenTaskRow(t.id, c.name, t.budgetMin, t.budgetMax, "
+            + "t.isRemote, t.location) from Task t join t.category c where t.status = :status")
+    List<OpenTaskRow> findRowsByStatus(@Param("status") TaskStatus status);
+
+    @Query("select new com.gigsly.gigsly_backend_api.repository.OpenTaskRow(t.id, c.name, t.budgetMin, t.budgetMax, "
+            + "t.isRemote, t.location) from Task t join t.category c where t.id = :id and t.status = :status")
+    Optional<OpenTaskRow> findRowByIdAndStatus(@Param("id") Long id, @Param("status") TaskStatus status);
+
+    @Query("select new com.gigsly.gigsly_backend_api.repository.SkillAssignment(t.id, s.id) "
+            + "from Task t join t.skillSet s where t.status = :status")
+    List<SkillAssignment> findSkillAssignmentsByStatus(@Param("status") TaskStatus status);
+
+    @Query("select s.id from Task t join t.skillSet s where t.id = :id")
+    List<Long> findSkillIds(@Param("id") Long id);
+
+    @Query("select t from Task t where t.requiredSkills is not null and t.skillSet is empty and t.id > :afterId "
+            + "order by t.id")
+    List<Task> findWithUnlinkedSkills(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select new com.gigsly.gigsly_backend_api.repository.ProfessionalWorkload(t.assignedProfessional.id, count(t)) "
+            + "from Task t where t.status = :status and t.assignedProfessional is not null "
+            + "group by t.assignedProfessional.id")
+    List<ProfessionalWorkload> countByProfessionalForStatus(@Param("status") TaskStatus status);
+
     long countByAssignedProfessionalIdAndStatus(Long professionalId, TaskStatus status);
 }
 
@@ -0,0 +1,90 @@
+package com.gigsly.gigsly_backend_api.repository;
+
+import com.gigsly.gigsly_backend_api.dto.task.TaskFilter;
+import com.gigsly.gigsly_backend_api.model.Task;
+import com.gigsly.gigsly_backend_api.model.TaskPriority;
+import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(TaskFilter filter) {
+        List<Specification<Task>> specs = new ArrayList<>();
+        if (filter == null) {
+            return Specification.allOf(specs);
+        }
+        if (filter.getStatus() != null) {
+            specs.add(hasStatus(filter.getStatus()));
+        }
+        if (filter.getCategoryId() != null) {
+            specs.add(inCategory(filter.getCategoryId()));
+        }
+        if (filter.getClientId() != null) {
+            specs.add(postedBy(filter.getClientId()));
+        }
+        if (filter.getPriority() != null) {
+            specs.add(hasPriority(filter.getPriority()));
+        }
+        if (filter.getRemote() != null) {
+            specs.add(isRemote(filter.getRemote()));
+        }
+        if (filter.getBudgetMin() != null) {
+            specs.add(budgetReaches(filter.getBudgetMin()));
+        }
+        if (filter.getBudgetMax() != null) {
+            specs.add(budgetStartsBelow(filter.getBudgetMax()));
+        }
+        if (filter.getDeadlineFrom() != null) {
+            specs.add(deadlineOnOrAfter(filter.getDeadlineFrom()));
+        }
+        if (filter.getDeadlineTo() != null) {
+            specs.add(deadlineOnOrBefore(filter.getDeadlineTo()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> inCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Task> postedBy(Long clientId) {
+        return (root, query, cb) -> cb.equal(root.get("client").get("id"), clientId);
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> isRemote(boolean remote) {
+        return (root, query, cb) -> cb.equal(root.get("isRemote"), remote);
+    }
+
+    // Budget filters match tasks whose [budgetMin, budgetMax] range overlaps the requested one.
+    public static Specification<Task> budgetReaches(BigDecimal amount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("budgetMax"), amount);
+    }
+
+    public static Specification<Task> budgetStartsBelow(BigDecimal amount) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("budgetMin"), amount);
+    }
+
+    public static Specification<Task> deadlineOnOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("deadline"), from);
+    }
+
+    public static Specification<Task> deadlineOnOrBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("deadline"), to);
+    }
+}
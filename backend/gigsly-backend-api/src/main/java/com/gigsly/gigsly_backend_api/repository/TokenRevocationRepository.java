@@ -0,0 +1,32 @@
+package com.gigsly.gigsly_backend_api.repository;
+
+import com.gigsly.gigsly_backend_api.model.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+    List<TokenRevocation> findByExpiresAtAfter(LocalDateTime now);
+
+    // Logging out twice with the same token (double click, retry) must not trip the unique constraint.
+    @Modifying
+    @Query(value = """
+            INSERT INTO token_revocations (token_hash, subject, revoked_at, expires_at)
+            VALUES (:tokenHash, :subject, :revokedAt, :expiresAt)
+            ON CONFLICT (token_hash) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("tokenHash") String tokenHash,
+                       @Param("subject") String subject,
+                       @Param("revokedAt") LocalDateTime revokedAt,
+                       @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("delete from TokenRevocation r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
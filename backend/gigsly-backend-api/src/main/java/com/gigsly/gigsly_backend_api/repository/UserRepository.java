@@ -2,18 +2,78 @@ package com.gigsly.gigsly_backend_api.repository;
 
 import com.gigsly.gigsly_backend_api.model.User;
 import com.gigsly.gigsly_backend_api.model.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
 
     List<User> findByRole(UserRole role);
+
+    List<User> findByRoleAndIsActiveTrue(UserRole role);
+
+    @Query("select coalesce(u.updatedAt, u.createdAt) from User u where u.id = :id")
+    Optional<LocalDateTime> findVersionById(@Param("id") Long id);
+
+    @Query("select new com.gigsly.gigsly_backend_api.repository.SkillAssignment(u.id, s.id) "
+            + "from User u join u.skillSet s where u.role = :role and u.isActive = true")
+    List<SkillAssignment> findSkillAssignmentsByRole(@Param("role") UserRole role);
+
+    @Query("select s.id from User u join u.skillSet s where u.id = :id and u.role = :role and u.isActive = true")
+    List<Long> findSkillIdsByIdAndRole(@Param("id") Long id, @Param("role") UserRole role);
+
+    @Query("select u from User u where u.skills is not null and u.skillSet is empty and u.id > :afterId order by u.id")
+    List<User> findWithUnlinkedSkills(@Param("afterId") Long afterId, Limit limit);
+
+    @Modifying
+    @Query("update User u set u.password = :password where u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+
+    @Modifying
+    @Query("update User u set u.reviewCount = u.reviewCount + 1, u.ratingSum = u.ratingSum + :rating, "
+            + "u.updatedAt = local datetime where u.id = :userId")
+    int recordReview(@Param("userId") Long userId, @Param("rating") long rating);
+
+    @Modifying
+    @Query("update User u set u.completedProjects = u.completedProjects + :delta, "
+            + "u.updatedAt = local datetime where u.id = :userId")
+    int adjustCompletedProjects(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE users u
+            SET review_count = s.review_count,
+                rating_sum = s.rating_sum,
+                completed_projects = s.completed_projects,
+                updated_at = now()
+            FROM (
+                SELECT usr.id,
+                       COALESCE(r.review_count, 0) AS review_count,
+                       COALESCE(r.rating_sum, 0) AS rating_sum,
+                       COALESCE(t.completed_projects, 0) AS completed_projects
+                FROM users usr
+                LEFT JOIN (SELECT reviewee_id, COUNT(*) AS review_count, SUM(rating) AS rating_sum
+                           FROM reviews GROUP BY reviewee_id) r ON r.reviewee_id = usr.id
+                LEFT JOIN (SELECT assigned_professional_id, COUNT(*) AS completed_projects
+                           FROM tasks WHERE status = 'COMPLETED'
+                           GROUP BY assigned_professional_id) t ON t.assigned_professional_id = usr.id
+            ) s
+            WHERE u.id = s.id
+              AND (u.review_count, u.rating_sum, u.completed_projects)
+                  IS DISTINCT FROM (s.review_count, s.rating_sum, s.completed_projects)
+            """, nativeQuery = true)
+    int reconcileStats();
 }
 
@@ -4,6 +4,7 @@ import com.gigsly.gigsly_backend_api.dto.auth.AuthResponse;
 import com.gigsly.gigsly_backend_api.dto.auth.LoginRequest;
 import com.gigsly.gigsly_backend_api.dto.user.UserRequest;
 import com.gigsly.gigsly_backend_api.dto.user.UserResponse;
+import com.gigsly.gigsly_backend_api.exception.BadRequestException;
 import com.gigsly.gigsly_backend_api.mapper.UserMapper;
 import com.gigsly.gigsly_backend_api.model.User;
 import com.gigsly.gigsly_backend_api.repository.UserRepository;
@@ -23,17 +24,26 @@ public class AuthService {
     private final UserRepository userRepository;
     private final UserService userService;
     private final UserDetailsService userDetailsService;
+    private final TokenVerifier tokenVerifier;
+    private final TokenRevocationService tokenRevocationService;
+    private final CurrentUserService currentUserService;
 
     public AuthService(AuthenticationManager authenticationManager,
                        JwtService jwtService,
                        UserRepository userRepository,
                        UserService userService,
-                       UserDetailsService userDetailsService) {
+                       UserDetailsService userDetailsService,
+                       TokenVerifier tokenVerifier,
+                       TokenRevocationService tokenRevocationService,
+                       CurrentUserService currentUserService) {
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
         this.userRepository = userRepository;
         this.userService = userService;
         this.userDetailsService = userDetailsService;
+        this.tokenVerifier = tokenVerifier;
+        this.tokenRevocationService = tokenRevocationService;
+        this.currentUserService = currentUserService;
     }
 
     public AuthResponse register(@NonNull UserRequest request) {
@@ -51,8 +61,8 @@ public class AuthService {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
         );
-        UserDetails principal = (UserDetails) authentication.getPrincipal();
-        User user = userRepository.findByEmail(principal.getUsername())
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        User user = userRepository.findById(principal.getId())
                 .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
 
         String token = jwtService.generateToken(principal);
@@ -68,4 +78,16 @@ public class AuthService {
     public UserResponse me() {
         return userService.getCurrentUserProfile();
     }
+
+    public void logout(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            throw new BadRequestException("Bearer token is required");
+        }
+        tokenVerifier.revoke(authorizationHeader.substring(7));
+    }
+
+    // Also the hook for role or account-status changes: every token issued so far stops working.
+    public void logoutEverywhere() {
+        tokenRevocationService.revokeAllFor(currentUserService.getCurrentPrincipal().getUsername());
+    }
 }
@@ -0,0 +1,130 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.dto.category.CategoryResponse;
+import com.gigsly.gigsly_backend_api.mapper.CategoryMapper;
+import com.gigsly.gigsly_backend_api.model.Category;
+import com.gigsly.gigsly_backend_api.repository.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Categories are a small, rarely changing table: readers get an immutable snapshot that is swapped
+// as a whole after writes commit and on a timer, so reads of known categories never touch the database.
+@Service
+public class CategoryRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryRegistry.class);
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final CategoryRepository categoryRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public CategoryRegistry(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    // Entries are shared across requests and must be treated as read-only.
+    public record Snapshot(CategoryResponse[] byId,
+                           Map<String, CategoryResponse> byName,
+                           List<CategoryResponse> newestFirst,
+                           String etag) {
+
+        public Optional<CategoryResponse> find(Long id) {
+            if (id == null || id < 0 || id >= byId.length) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(byId[id.intValue()]);
+        }
+
+        public Optional<CategoryResponse> findByName(String name) {
+            return name == null ? Optional.empty() : Optional.ofNullable(byName.get(name.toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : refresh();
+    }
+
+    // A miss falls back to the database: a category created on another instance is not in this snapshot until
+    // the next refresh.
+    public Optional<CategoryResponse> find(Long id) {
+        Optional<CategoryResponse> category = snapshot().find(id);
+        if (category.isPresent() || id == null || !categoryRepository.existsById(id)) {
+            return category;
+        }
+        return refresh().find(id);
+    }
+
+    public Optional<CategoryResponse> findByName(String name) {
+        return snapshot().findByName(name);
+    }
+
+    @Scheduled(fixedDelayString = "${app.categories.refresh-interval-ms:300000}",
+            initialDelayString = "${app.categories.refresh-interval-ms:300000}")
+    public Snapshot refresh() {
+        List<CategoryResponse> categories = categoryRepository.findAll(NEWEST_FIRST).stream()
+                .map(CategoryMapper::toResponse)
+                .toList();
+        Snapshot next = build(categories);
+        snapshot.set(next);
+        return next;
+    }
+
+    // Called from inside a write transaction; the new snapshot is built once the write is visible.
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAtStartup() {
+        logger.info("Category registry loaded with {} categories", refresh().newestFirst().size());
+    }
+
+    // Strong validator for a single category: changes whenever any serialized field does.
+    public static String etagOf(CategoryResponse category) {
+        return Etags.strong(fieldsOf(category).toArray());
+    }
+
+    private static Snapshot build(List<CategoryResponse> categories) {
+        long maxId = categories.stream().mapToLong(CategoryResponse::getId).max().orElse(-1L);
+        CategoryResponse[] byId = new CategoryResponse[Math.toIntExact(maxId + 1)];
+        Map<String, CategoryResponse> byName = new HashMap<>();
+        List<Object> validators = new ArrayList<>();
+        for (CategoryResponse category : categories) {
+            byId[category.getId().intValue()] = category;
+            byName.put(category.getName().toLowerCase(Locale.ROOT), category);
+            validators.addAll(fieldsOf(category));
+        }
+        return new Snapshot(byId, Map.copyOf(byName), categories, Etags.strong(validators.toArray()));
+    }
+
+    private static List<Object> fieldsOf(CategoryResponse category) {
+        return Arrays.asList(category.getId(), category.getName(), category.getDescription(), category.getIconUrl(),
+                category.getActive(), category.getCreatedAt(), category.getUpdatedAt());
+    }
+}
@@ -1,5 +1,6 @@
 package com.gigsly.gigsly_backend_api.service;
 
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
 import com.gigsly.gigsly_backend_api.dto.category.CategoryRequest;
 import com.gigsly.gigsly_backend_api.dto.category.CategoryResponse;
 import com.gigsly.gigsly_backend_api.exception.BadRequestException;
@@ -12,17 +13,22 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CursorPaginationService cursorPaginationService;
+    private final CategoryRegistry categoryRegistry;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository,
+                           CursorPaginationService cursorPaginationService,
+                           CategoryRegistry categoryRegistry) {
         this.categoryRepository = categoryRepository;
+        this.cursorPaginationService = cursorPaginationService;
+        this.categoryRegistry = categoryRegistry;
     }
 
     @Transactional
@@ -32,6 +38,7 @@ public class CategoryService {
         }
         Category category = Objects.requireNonNull(CategoryMapper.toEntity(request), "Unable to create category");
         Category saved = categoryRepository.save(category);
+        categoryRegistry.refreshAfterCommit();
         return CategoryMapper.toResponse(saved);
     }
 
@@ -44,22 +51,22 @@ public class CategoryService {
             throw new BadRequestException("Another category with the same name exists");
         }
         CategoryMapper.updateEntity(category, request);
-        return CategoryMapper.toResponse(categoryRepository.save(category));
+        Category saved = categoryRepository.save(category);
+        categoryRegistry.refreshAfterCommit();
+        return CategoryMapper.toResponse(saved);
+    }
+
+    public CursorPage<CategoryResponse> getCategories(String cursor, Integer size) {
+        return getCategories(categoryRegistry.snapshot(), cursor, size);
     }
 
-    @Transactional(readOnly = true)
-    public List<CategoryResponse> getCategories() {
-        return categoryRepository.findAll()
-                .stream()
-                .map(CategoryMapper::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<CategoryResponse> getCategories(CategoryRegistry.Snapshot snapshot, String cursor, Integer size) {
+        return cursorPaginationService.pageOf(snapshot.newestFirst(), cursor, size,
+                CategoryResponse::getCreatedAt, CategoryResponse::getId, Function.identity());
     }
 
-    @Transactional(readOnly = true)
     public CategoryResponse getCategory(@NonNull Long id) {
-        Category category = categoryRepository.findById(id)
+        return categoryRegistry.find(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + id));
-        return CategoryMapper.toResponse(category);
     }
 }
-
@@ -1,5 +1,6 @@
 package com.gigsly.gigsly_backend_api.service;
 
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
 import com.gigsly.gigsly_backend_api.dto.contact.ContactQueryRequest;
 import com.gigsly.gigsly_backend_api.dto.contact.ContactQueryResponse;
 import com.gigsly.gigsly_backend_api.dto.contact.ContactResponseRequest;
@@ -12,25 +13,43 @@ import com.gigsly.gigsly_backend_api.model.User;
 import com.gigsly.gigsly_backend_api.model.UserRole;
 import com.gigsly.gigsly_backend_api.repository.ContactQueryRepository;
 import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
 public class ContactQueryService {
 
+    static final String EXPORT_SQL = """
+            SELECT q.id, q.name, q.email, q.mobile, q.query_type, q.message, q.status, q.admin_response,
+                   q.responded_at, q.created_at, q.responded_by, a.full_name AS responded_by_name
+            FROM contact_queries q
+            LEFT JOIN users a ON a.id = q.responded_by
+            WHERE (CAST(? AS VARCHAR) IS NULL OR q.status = ?)
+            ORDER BY q.created_at DESC, q.id DESC
+            """;
+
     private final ContactQueryRepository contactQueryRepository;
     private final UserRepository userRepository;
+    private final CursorPaginationService cursorPaginationService;
+    private final CurrentUserService currentUserService;
+    private final StreamingExportService streamingExportService;
 
     public ContactQueryService(ContactQueryRepository contactQueryRepository,
-                               UserRepository userRepository) {
+                               UserRepository userRepository,
+                               CursorPaginationService cursorPaginationService,
+                               CurrentUserService currentUserService,
+                               StreamingExportService streamingExportService) {
         this.contactQueryRepository = contactQueryRepository;
         this.userRepository = userRepository;
+        this.cursorPaginationService = cursorPaginationService;
+        this.currentUserService = currentUserService;
+        this.streamingExportService = streamingExportService;
     }
 
     @Transactional
@@ -69,12 +88,24 @@ public class ContactQueryService {
         return ContactQueryMapper.toResponse(saved);
     }
 
+    // Bulk export of contact details is admin-only; the check runs before the response starts streaming.
+    public StreamingResponseBody streamQueries(QueryStatus status, ExportFormat format) {
+        if (currentUserService.getCurrentPrincipal().getRole() != UserRole.ADMIN) {
+            throw new BadRequestException("Only admins can export contact queries");
+        }
+        String statusName = status == null ? null : status.name();
+        return streamingExportService.stream(EXPORT_SQL, new Object[]{statusName, statusName},
+                ContactQueryResponse.class, (row, rowNum) -> ContactQueryMapper.fromRow(row), format);
+    }
+
     @Transactional(readOnly = true)
-    public List<ContactQueryResponse> listQueries(QueryStatus status) {
-        List<ContactQuery> queries = status == null ? contactQueryRepository.findAll() : contactQueryRepository.findByStatus(status);
-        return queries.stream()
-                .map(ContactQueryMapper::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<ContactQueryResponse> listQueries(QueryStatus status, String cursor, Integer size) {
+        Specification<ContactQuery> filter = status == null
+                ? Specification.allOf()
+                : (root, query, cb) -> cb.equal(root.get("status"), status);
+        return cursorPaginationService.fetchPage(contactQueryRepository, filter, cursor, size,
+                ContactQuery::getCreatedAt, ContactQuery::getId, ContactQueryMapper::toResponse,
+                ContactQueryRepository.RESPONSE_GRAPH);
     }
 
     @Transactional(readOnly = true)
@@ -16,13 +16,18 @@ public class CurrentUserService {
         this.userRepository = userRepository;
     }
 
-    public User getCurrentUser() {
+    // Resolved by JwtAuthenticationFilter; use this for id/role checks to avoid a users lookup.
+    public UserPrincipal getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || authentication.getName() == null) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
             throw new ResourceNotFoundException("No authenticated user found");
         }
-        return userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email " + authentication.getName()));
+        return principal;
     }
-}
 
+    public User getCurrentUser() {
+        UserPrincipal principal = getCurrentPrincipal();
+        return userRepository.findById(principal.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email " + principal.getUsername()));
+    }
+}
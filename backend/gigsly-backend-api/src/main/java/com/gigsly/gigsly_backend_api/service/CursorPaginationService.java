@@ -0,0 +1,164 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
+import com.gigsly.gigsly_backend_api.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Keyset pagination over (created_at, id), newest first: each page seeks past the last row
+// of the previous one instead of using OFFSET.
+@Service
+public class CursorPaginationService {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final String SEPARATOR = "|";
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public CursorPaginationService(@Value("${app.pagination.default-size:20}") int defaultPageSize,
+                                   @Value("${app.pagination.max-size:100}") int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public <E, R> CursorPage<R> fetchPage(JpaSpecificationExecutor<E> repository,
+                                          Specification<E> filter,
+                                          String cursor,
+                                          Integer requestedSize,
+                                          Function<E, LocalDateTime> createdAt,
+                                          Function<E, Long> id,
+                                          Function<E, R> mapper) {
+        return fetchPage(repository, filter, cursor, requestedSize, createdAt, id, mapper, List.of());
+    }
+
+    // fetchGraph names the associations the mapper touches; they are loaded in the page query itself.
+    public <E, R> CursorPage<R> fetchPage(JpaSpecificationExecutor<E> repository,
+                                          Specification<E> filter,
+                                          String cursor,
+                                          Integer requestedSize,
+                                          Function<E, LocalDateTime> createdAt,
+                                          Function<E, Long> id,
+                                          Function<E, R> mapper,
+                                          List<String> fetchGraph) {
+        int pageSize = resolvePageSize(requestedSize);
+        Specification<E> spec = Specification.allOf(filter, seekAfter(cursor));
+        List<E> rows = repository.<E, List<E>>findBy(spec, query -> query
+                .project(fetchGraph)
+                .sortBy(NEWEST_FIRST)
+                .limit(pageSize + 1)
+                .all());
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            E last = rows.get(pageSize - 1);
+            nextCursor = encode(createdAt.apply(last), id.apply(last));
+        }
+        List<R> items = rows.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor, pageSize);
+    }
+
+    public int resolvePageSize(Integer requestedSize) {
+        if (requestedSize == null) {
+            return defaultPageSize;
+        }
+        if (requestedSize < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        return Math.min(requestedSize, maxPageSize);
+    }
+
+    // Same cursor contract as fetchPage, for rows already held in memory in newest-first order.
+    public <E, R> CursorPage<R> pageOf(List<E> newestFirst,
+                                       String cursor,
+                                       Integer requestedSize,
+                                       Function<E, LocalDateTime> createdAt,
+                                       Function<E, Long> id,
+                                       Function<E, R> mapper) {
+        int pageSize = resolvePageSize(requestedSize);
+        Position after = decode(cursor);
+        int start = 0;
+        if (after != null) {
+            while (start < newestFirst.size() && !after.precedes(createdAt.apply(newestFirst.get(start)),
+                    id.apply(newestFirst.get(start)))) {
+                start++;
+            }
+        }
+        int end = Math.min(newestFirst.size(), start + pageSize);
+        List<E> rows = newestFirst.subList(start, end);
+        String nextCursor = null;
+        if (end < newestFirst.size()) {
+            E last = rows.get(rows.size() - 1);
+            nextCursor = encode(createdAt.apply(last), id.apply(last));
+        }
+        List<R> items = rows.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor, pageSize);
+    }
+
+    // Also used by ResourceVersionService to validate exactly the rows a page returns.
+    <E> Specification<E> seekAfter(String cursor) {
+        Position after = decode(cursor);
+        if (after == null) {
+            return Specification.allOf();
+        }
+        LocalDateTime createdAt = after.createdAt();
+        long id = after.id();
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), createdAt),
+                cb.and(
+                        cb.equal(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.<Long>get("id"), id)));
+    }
+
+    private Position decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        int split = decoded.lastIndexOf(SEPARATOR);
+        if (split <= 0) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        try {
+            return new Position(LocalDateTime.parse(decoded.substring(0, split)),
+                    Long.parseLong(decoded.substring(split + 1)));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Position(LocalDateTime createdAt, long id) {
+
+        // True when the given row sorts strictly after this position in newest-first order.
+        boolean precedes(LocalDateTime otherCreatedAt, Long otherId) {
+            int byTime = otherCreatedAt.compareTo(createdAt);
+            return byTime < 0 || (byTime == 0 && otherId < id);
+        }
+    }
+}
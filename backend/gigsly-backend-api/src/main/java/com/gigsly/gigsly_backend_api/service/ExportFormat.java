@@ -0,0 +1,20 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    // One JSON array, same element shape as the paged endpoints.
+    JSON(MediaType.APPLICATION_JSON),
+    // One JSON object per line; a client can process rows as they arrive and detect truncation.
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"));
+
+    private final MediaType mediaType;
+
+    ExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
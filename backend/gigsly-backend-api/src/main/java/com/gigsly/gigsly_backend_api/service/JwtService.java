@@ -1,6 +1,8 @@
 package com.gigsly.gigsly_backend_api.service;
 
+import com.gigsly.gigsly_backend_api.model.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -12,25 +14,45 @@ import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    private final String secret;
+    private static final String ROLE_CLAIM = "role";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_PREFIX = "ROLE_";
+    // iat has second precision; logout-all cutoffs need to tell tokens issued within the same second apart.
+    private static final String ISSUED_AT_MICROS_CLAIM = "iat_us";
+
     private final long expirationMillis;
+    private final Key signKey;
+    private final JwtParser parser;
 
     public JwtService(@Value("${security.jwt.secret}") String secret,
                       @Value("${security.jwt.expiration:3600000}") long expirationMillis) {
-        this.secret = secret;
         this.expirationMillis = expirationMillis;
+        this.signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signKey)
+                .build();
     }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    // Verifies the signature and expiry exactly once and exposes everything the request needs.
+    public VerifiedToken parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        return new VerifiedToken(
+                claims.getSubject(),
+                extractUserId(claims),
+                extractRole(claims),
+                extractIssuedAt(claims),
+                toInstant(claims.getExpiration())
+        );
     }
 
     public Instant getExpirationInstant() {
@@ -38,54 +60,62 @@ public class JwtService {
     }
 
     public String generateToken(UserDetails userDetails) {
-        Map<String, Object> claims = Map.of(
-                "role", userDetails.getAuthorities()
-                        .stream()
-                        .map(GrantedAuthority::getAuthority)
-                        .collect(Collectors.toSet())
-        );
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(ROLE_CLAIM, userDetails.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet()));
+        if (userDetails instanceof UserPrincipal principal) {
+            claims.put(USER_ID_CLAIM, principal.getId());
+        }
         return generateToken(claims, userDetails);
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+    private Long extractUserId(Claims claims) {
+        Object value = claims.get(USER_ID_CLAIM);
+        return value instanceof Number number ? number.longValue() : null;
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private Instant extractIssuedAt(Claims claims) {
+        Object value = claims.get(ISSUED_AT_MICROS_CLAIM);
+        if (value instanceof Number micros) {
+            return Instant.EPOCH.plus(micros.longValue(), ChronoUnit.MICROS);
+        }
+        return toInstant(claims.getIssuedAt());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private UserRole extractRole(Claims claims) {
+        Object value = claims.get(ROLE_CLAIM);
+        if (!(value instanceof Collection<?> authorities) || authorities.size() != 1) {
+            return null;
+        }
+        String authority = String.valueOf(authorities.iterator().next());
+        if (!authority.startsWith(ROLE_PREFIX)) {
+            return null;
+        }
+        try {
+            return UserRole.valueOf(authority.substring(ROLE_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts
-                .parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claimsResolver.apply(claims);
+    private Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
     }
 
     private String generateToken(Map<String, Object> claims, UserDetails userDetails) {
-        Date now = new Date();
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Date now = Date.from(issuedAt);
         Date expiration = new Date(now.getTime() + expirationMillis);
+        claims.put(ISSUED_AT_MICROS_CLAIM, ChronoUnit.MICROS.between(Instant.EPOCH, issuedAt));
         return Jwts
                 .builder()
                 .setClaims(claims)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
+                .signWith(signKey, SignatureAlgorithm.HS256)
                 .compact();
     }
-
-    private Key getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
-
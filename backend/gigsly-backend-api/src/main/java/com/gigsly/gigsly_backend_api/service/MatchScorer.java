@@ -0,0 +1,93 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+// Single definition of "how well does this professional fit this task", shared by recommendations and the task feed.
+public final class MatchScorer {
+
+    static final double SKILL_WEIGHT = 0.40;
+    static final double CATEGORY_WEIGHT = 0.20;
+    static final double RATING_WEIGHT = 0.10;
+    static final double RATE_WEIGHT = 0.10;
+    static final double LOCATION_WEIGHT = 0.10;
+    static final double WORKLOAD_WEIGHT = 0.10;
+
+    // Bayesian prior so a single 5-star review does not outrank a long track record.
+    private static final double PRIOR_RATING = 3.5;
+    private static final double PRIOR_REVIEWS = 5.0;
+    private static final double MAX_RATING = 5.0;
+    private static final double NEUTRAL = 0.5;
+
+    private MatchScorer() {
+    }
+
+    public static double score(TaskProfile task, ProfessionalProfile professional, SkillSet professionalSkills) {
+        return SKILL_WEIGHT * skillFit(task.skills(), professionalSkills)
+                + CATEGORY_WEIGHT * categoryFit(task.category(), professional.primaryCategory())
+                + RATING_WEIGHT * professional.rating() / MAX_RATING
+                + RATE_WEIGHT * rateFit(professional.hourlyRate(), task.budgetMin(), task.budgetMax())
+                + LOCATION_WEIGHT * locationFit(task.remote(), task.location(), professional.location())
+                + WORKLOAD_WEIGHT * workloadFit(professional.activeTasks());
+    }
+
+    public static double rating(long ratingSum, int reviewCount) {
+        return (ratingSum + PRIOR_RATING * PRIOR_REVIEWS) / (reviewCount + PRIOR_REVIEWS);
+    }
+
+    public static String normalizeCategory(String category) {
+        return normalizeText(category);
+    }
+
+    public static String normalizeLocation(String location) {
+        return normalizeText(location);
+    }
+
+    static double skillFit(SkillSet required, SkillSet offered) {
+        int requiredCount = required.size();
+        if (requiredCount == 0) {
+            return NEUTRAL;
+        }
+        return (double) required.overlap(offered) / requiredCount;
+    }
+
+    static double categoryFit(String taskCategory, String primaryCategory) {
+        return taskCategory != null && taskCategory.equals(primaryCategory) ? 1.0 : 0.0;
+    }
+
+    static double rateFit(BigDecimal hourlyRate, BigDecimal budgetMin, BigDecimal budgetMax) {
+        if (hourlyRate == null || (budgetMin == null && budgetMax == null)) {
+            return NEUTRAL;
+        }
+        double rate = hourlyRate.doubleValue();
+        if (budgetMax != null && rate > budgetMax.doubleValue()) {
+            double max = budgetMax.doubleValue();
+            return max <= 0 ? 0.0 : Math.max(0.0, 1.0 - (rate - max) / max);
+        }
+        if (budgetMin != null && rate < budgetMin.doubleValue()) {
+            return 0.8;
+        }
+        return 1.0;
+    }
+
+    static double locationFit(boolean remote, String taskLocation, String professionalLocation) {
+        if (remote) {
+            return 1.0;
+        }
+        if (taskLocation == null || professionalLocation == null) {
+            return NEUTRAL;
+        }
+        return taskLocation.equals(professionalLocation) ? 1.0 : 0.0;
+    }
+
+    static double workloadFit(long activeTasks) {
+        return 1.0 / (1 + Math.max(0, activeTasks));
+    }
+
+    private static String normalizeText(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
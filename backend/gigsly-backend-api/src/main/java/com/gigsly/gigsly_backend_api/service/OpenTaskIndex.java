@@ -0,0 +1,123 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import com.gigsly.gigsly_backend_api.repository.OpenTaskRow;
+import com.gigsly.gigsly_backend_api.repository.SkillAssignment;
+import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Scoring profiles of every OPEN task; tasks enter and leave as TaskChangedEvents commit.
+@Service
+public class OpenTaskIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenTaskIndex.class);
+
+    // Feed order: best score first, newer (higher id) first among equal scores.
+    static final Comparator<Ranked> FEED_ORDER = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(Comparator.comparingLong(Ranked::taskId).reversed());
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate primaryReadTransaction;
+    private final RebuildableMap<TaskProfile> tasks = new RebuildableMap<>();
+
+    public OpenTaskIndex(TaskRepository taskRepository, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        // Not read-only, so ReadWriteRoutingDataSource keeps these reads on the primary.
+        this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+        this.primaryReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public record Ranked(long taskId, double score) {
+    }
+
+    // Top `limit` tasks strictly after `after` in FEED_ORDER; one pass with a bounded heap, no full sort.
+    public List<Ranked> rank(ProfessionalProfile professional, SkillSet skills, Ranked after, int limit) {
+        PriorityQueue<Ranked> best = new PriorityQueue<>(limit + 1, FEED_ORDER.reversed());
+        for (TaskProfile task : tasks.values()) {
+            Ranked candidate = new Ranked(task.id(), MatchScorer.score(task, professional, skills));
+            if (after != null && FEED_ORDER.compare(candidate, after) <= 0) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (FEED_ORDER.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+        List<Ranked> ranked = new ArrayList<>(best);
+        ranked.sort(FEED_ORDER);
+        return ranked;
+    }
+
+    public int size() {
+        return tasks.size();
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.feed.rebuild-interval-ms:900000}",
+            initialDelayString = "${app.feed.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        tasks.rebuild(() -> {
+            Map<Long, List<Long>> skillIds = new HashMap<>();
+            for (SkillAssignment assignment : taskRepository.findSkillAssignmentsByStatus(TaskStatus.OPEN)) {
+                skillIds.computeIfAbsent(assignment.ownerId(), id -> new ArrayList<>()).add(assignment.skillId());
+            }
+            Map<Long, TaskProfile> rebuilt = new HashMap<>();
+            for (OpenTaskRow row : taskRepository.findRowsByStatus(TaskStatus.OPEN)) {
+                rebuilt.put(row.id(), toProfile(row, SkillSet.of(skillIds.get(row.id()))));
+            }
+            return rebuilt;
+        }, taskId -> primaryReadTransaction.executeWithoutResult(status -> refresh(taskId)));
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(StartupOrder.LOAD_INDEXES)
+    public void loadAtStartup() {
+        rebuild();
+        logger.info("Open task index loaded with {} tasks", tasks.size());
+    }
+
+    // Read-write so the re-read goes to the primary, which has the commit that raised the event.
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.taskId() != null) {
+            refresh(event.taskId());
+        }
+    }
+
+    private void refresh(Long taskId) {
+        taskRepository.findRowByIdAndStatus(taskId, TaskStatus.OPEN).ifPresentOrElse(
+                row -> tasks.put(taskId, toProfile(row, SkillSet.of(taskRepository.findSkillIds(taskId)))),
+                () -> tasks.remove(taskId));
+    }
+
+    private TaskProfile toProfile(OpenTaskRow row, SkillSet skills) {
+        return new TaskProfile(row.id(), skills,
+                MatchScorer.normalizeCategory(row.categoryName()),
+                row.budgetMin(), row.budgetMax(),
+                Boolean.TRUE.equals(row.remote()),
+                MatchScorer.normalizeLocation(row.location()));
+    }
+}
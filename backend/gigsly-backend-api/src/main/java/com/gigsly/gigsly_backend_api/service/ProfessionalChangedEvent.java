@@ -0,0 +1,5 @@
+package com.gigsly.gigsly_backend_api.service;
+
+// Published inside a transaction whenever anything ProfessionalIndex scores on may have changed for this user.
+public record ProfessionalChangedEvent(Long professionalId) {
+}
@@ -0,0 +1,145 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import com.gigsly.gigsly_backend_api.model.User;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.ProfessionalWorkload;
+import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// In-memory candidate pool for recommendations: rebuilt in full periodically, patched per professional after commits.
+@Service
+public class ProfessionalIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfessionalIndex.class);
+
+    // Best score first, lower id first among equal scores, so ties at the cut-off are decided the same way every time.
+    private static final Comparator<Match> MATCH_ORDER = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(match -> match.profile().id());
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final SkillIndex skillIndex;
+    private final TransactionTemplate primaryReadTransaction;
+    private final RebuildableMap<ProfessionalProfile> profiles = new RebuildableMap<>();
+
+    public ProfessionalIndex(UserRepository userRepository, TaskRepository taskRepository, SkillIndex skillIndex,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.skillIndex = skillIndex;
+        // Not read-only, so ReadWriteRoutingDataSource keeps these reads on the primary.
+        this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+        this.primaryReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public record Match(ProfessionalProfile profile, double score, int matchedSkills) {
+    }
+
+    public List<Match> topMatches(TaskProfile task, int limit) {
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, MATCH_ORDER.reversed());
+        for (ProfessionalProfile profile : profiles.values()) {
+            SkillSet skills = skillIndex.skillsOf(profile.id());
+            Match candidate = new Match(profile, MatchScorer.score(task, profile, skills), 0);
+            if (best.size() < limit) {
+                best.add(withOverlap(candidate, task, skills));
+            } else if (MATCH_ORDER.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(withOverlap(candidate, task, skills));
+            }
+        }
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(MATCH_ORDER);
+        return ranked;
+    }
+
+    public ProfessionalProfile profileOf(Long professionalId) {
+        return profiles.get(professionalId);
+    }
+
+    public int size() {
+        return profiles.size();
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.recommendations.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.recommendations.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        // Patched professionals are re-read in their own transaction on the primary: this one may be on the replica,
+        // and its persistence context still holds the users as the rebuild loaded them.
+        profiles.rebuild(() -> {
+            Map<Long, Long> workloads = new HashMap<>();
+            for (ProfessionalWorkload workload : taskRepository.countByProfessionalForStatus(TaskStatus.IN_PROGRESS)) {
+                workloads.put(workload.professionalId(), workload.activeTasks());
+            }
+            Map<Long, ProfessionalProfile> rebuilt = new HashMap<>();
+            for (User user : userRepository.findByRoleAndIsActiveTrue(UserRole.PROFESSIONAL)) {
+                rebuilt.put(user.getId(), toProfile(user, workloads.getOrDefault(user.getId(), 0L)));
+            }
+            return rebuilt;
+        }, professionalId -> primaryReadTransaction.executeWithoutResult(status -> refresh(professionalId)));
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(StartupOrder.LOAD_INDEXES)
+    public void loadAtStartup() {
+        rebuild();
+        logger.info("Professional index loaded with {} professionals", profiles.size());
+    }
+
+    // Read-write so the re-read goes to the primary: the replica may not have the commit that raised the event yet.
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onProfessionalChanged(ProfessionalChangedEvent event) {
+        if (event.professionalId() != null) {
+            refresh(event.professionalId());
+        }
+    }
+
+    private void refresh(Long professionalId) {
+        User user = userRepository.findById(professionalId).orElse(null);
+        if (user == null || user.getRole() != UserRole.PROFESSIONAL || Boolean.FALSE.equals(user.getIsActive())) {
+            profiles.remove(professionalId);
+            return;
+        }
+        long activeTasks = taskRepository.countByAssignedProfessionalIdAndStatus(professionalId, TaskStatus.IN_PROGRESS);
+        profiles.put(professionalId, toProfile(user, activeTasks));
+    }
+
+    private static Match withOverlap(Match match, TaskProfile task, SkillSet skills) {
+        return new Match(match.profile(), match.score(), task.skills().overlap(skills));
+    }
+
+    private ProfessionalProfile toProfile(User user, long activeTasks) {
+        int reviewCount = user.getReviewCount() == null ? 0 : user.getReviewCount();
+        long ratingSum = user.getRatingSum() == null ? 0L : user.getRatingSum();
+        return new ProfessionalProfile(
+                user.getId(),
+                MatchScorer.normalizeCategory(user.getPrimaryCategory()),
+                MatchScorer.rating(ratingSum, reviewCount),
+                user.getHourlyRate(),
+                activeTasks,
+                MatchScorer.normalizeLocation(user.getLocation()));
+    }
+}
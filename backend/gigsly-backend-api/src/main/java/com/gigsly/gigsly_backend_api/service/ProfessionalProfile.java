@@ -0,0 +1,12 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import java.math.BigDecimal;
+
+// Scoring inputs for one professional; skills live in SkillIndex so profile and skill updates stay independent.
+public record ProfessionalProfile(Long id,
+                                  String primaryCategory,
+                                  double rating,
+                                  BigDecimal hourlyRate,
+                                  long activeTasks,
+                                  String location) {
+}
@@ -1,5 +1,6 @@
 package com.gigsly.gigsly_backend_api.service;
 
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
 import com.gigsly.gigsly_backend_api.dto.proposal.ProposalRequest;
 import com.gigsly.gigsly_backend_api.dto.proposal.ProposalResponse;
 import com.gigsly.gigsly_backend_api.dto.proposal.ProposalStatusUpdateRequest;
@@ -13,8 +14,11 @@ import com.gigsly.gigsly_backend_api.model.Task;
 import com.gigsly.gigsly_backend_api.model.TaskStatus;
 import com.gigsly.gigsly_backend_api.model.User;
 import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.CollectionVersion;
 import com.gigsly.gigsly_backend_api.repository.ProposalRepository;
 import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,13 +34,25 @@ public class ProposalService {
     private final ProposalRepository proposalRepository;
     private final TaskRepository taskRepository;
     private final CurrentUserService currentUserService;
+    private final CursorPaginationService cursorPaginationService;
+    private final UserStatsService userStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResourceVersionService resourceVersionService;
 
     public ProposalService(ProposalRepository proposalRepository,
                            TaskRepository taskRepository,
-                           CurrentUserService currentUserService) {
+                           CurrentUserService currentUserService,
+                           CursorPaginationService cursorPaginationService,
+                           UserStatsService userStatsService,
+                           ApplicationEventPublisher eventPublisher,
+                           ResourceVersionService resourceVersionService) {
         this.proposalRepository = proposalRepository;
         this.taskRepository = taskRepository;
         this.currentUserService = currentUserService;
+        this.cursorPaginationService = cursorPaginationService;
+        this.userStatsService = userStatsService;
+        this.eventPublisher = eventPublisher;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @Transactional
@@ -71,9 +87,9 @@ public class ProposalService {
 
     @Transactional
     public ProposalResponse updateStatus(@NonNull Long proposalId, ProposalStatusUpdateRequest request) {
-        Proposal proposal = proposalRepository.findById(proposalId)
+        Proposal proposal = proposalRepository.findDetailedById(proposalId)
                 .orElseThrow(() -> new ResourceNotFoundException("Proposal not found with id " + proposalId));
-        User current = currentUserService.getCurrentUser();
+        UserPrincipal current = currentUserService.getCurrentPrincipal();
         if ((current.getRole() != UserRole.CLIENT && current.getRole() != UserRole.ADMIN)
                 || (current.getRole() == UserRole.CLIENT && proposal.getTask().getClient() != null
                 && !proposal.getTask().getClient().getId().equals(current.getId()))) {
@@ -84,9 +100,14 @@ public class ProposalService {
             proposal.setAcceptedAt(LocalDateTime.now());
             proposal.setRejectedAt(null);
             Task task = proposal.getTask();
+            TaskStatus previousStatus = task.getStatus();
+            Long previousProfessionalId = task.getAssignedProfessional() == null ? null : task.getAssignedProfessional().getId();
             task.setAssignedProfessional(proposal.getProfessional());
             task.setStatus(TaskStatus.IN_PROGRESS);
             taskRepository.save(task);
+            userStatsService.recordTaskTransition(previousProfessionalId, previousStatus,
+                    proposal.getProfessional().getId(), TaskStatus.IN_PROGRESS);
+            eventPublisher.publishEvent(new TaskChangedEvent(task.getId()));
         } else if (newStatus == ProposalStatus.REJECTED) {
             proposal.setRejectedAt(LocalDateTime.now());
             proposal.setAcceptedAt(null);
@@ -101,51 +122,65 @@ public class ProposalService {
 
     @Transactional(readOnly = true)
     public ProposalResponse getProposal(@NonNull Long id) {
-        Proposal proposal = proposalRepository.findById(id)
+        Proposal proposal = proposalRepository.findDetailedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Proposal not found with id " + id));
         return ProposalMapper.toResponse(proposal);
     }
 
     @Transactional(readOnly = true)
-    public List<ProposalResponse> getProposals(Long taskId, Long professionalId) {
-        List<Proposal> proposals;
-        if (taskId != null) {
-            proposals = proposalRepository.findByTaskId(taskId);
-        } else if (professionalId != null) {
-            proposals = proposalRepository.findByProfessionalId(professionalId);
-        } else {
-            proposals = proposalRepository.findAll();
-        }
-        return proposals.stream()
-                .map(ProposalMapper::toResponse)
-                .collect(Collectors.toList());
+    public LocalDateTime getProposalVersion(@NonNull Long id) {
+        return proposalRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Proposal not found with id " + id));
     }
 
     @Transactional(readOnly = true)
-    public List<ProposalResponse> getProposalsForCurrentUser() {
-        User current = currentUserService.getCurrentUser();
-        if (current.getRole() == UserRole.PROFESSIONAL) {
-            return proposalRepository.findByProfessionalId(current.getId()).stream()
-                    .map(ProposalMapper::toResponse)
-                    .collect(Collectors.toList());
+    public CursorPage<ProposalResponse> getProposals(Long taskId, Long professionalId, String cursor, Integer size) {
+        return cursorPaginationService.fetchPage(proposalRepository, proposalFilter(taskId, professionalId), cursor, size,
+                Proposal::getCreatedAt, Proposal::getId, ProposalMapper::toResponse, ProposalRepository.RESPONSE_GRAPH);
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getProposalsVersion(Long taskId, Long professionalId, String cursor, Integer size) {
+        return resourceVersionService.pageVersion(Proposal.class, proposalFilter(taskId, professionalId), cursor, size,
+                ProposalRepository.RESPONSE_GRAPH);
+    }
+
+    // One statement per page: proposals joined to their task (and its client id) with task and professional fetched.
+    @Transactional(readOnly = true)
+    public CursorPage<ProposalResponse> getProposalsForCurrentUser(String cursor, Integer size) {
+        return cursorPaginationService.fetchPage(proposalRepository, currentUserFilter(), cursor, size,
+                Proposal::getCreatedAt, Proposal::getId, ProposalMapper::toResponse, ProposalRepository.RESPONSE_GRAPH);
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getProposalsForCurrentUserVersion(String cursor, Integer size) {
+        return resourceVersionService.pageVersion(Proposal.class, currentUserFilter(), cursor, size,
+                ProposalRepository.RESPONSE_GRAPH);
+    }
+
+    private Specification<Proposal> proposalFilter(Long taskId, Long professionalId) {
+        if (taskId != null) {
+            return (root, query, cb) -> cb.equal(root.get("task").get("id"), taskId);
         }
-        if (current.getRole() == UserRole.CLIENT || current.getRole() == UserRole.ADMIN) {
-            List<Long> taskIds = taskRepository.findByClientId(current.getId()).stream()
-                    .map(Task::getId)
-                    .collect(Collectors.toList());
-            return taskIds.stream()
-                    .flatMap(taskId -> proposalRepository.findByTaskId(taskId).stream())
-                    .map(ProposalMapper::toResponse)
-                    .collect(Collectors.toList());
+        if (professionalId != null) {
+            return (root, query, cb) -> cb.equal(root.get("professional").get("id"), professionalId);
         }
-        return List.of();
+        return Specification.allOf();
+    }
+
+    private Specification<Proposal> currentUserFilter() {
+        UserPrincipal current = currentUserService.getCurrentPrincipal();
+        Long currentId = current.getId();
+        return current.getRole() == UserRole.PROFESSIONAL
+                ? (root, query, cb) -> cb.equal(root.get("professional").get("id"), currentId)
+                : (root, query, cb) -> cb.equal(root.get("task").get("client").get("id"), currentId);
     }
 
     @Transactional(readOnly = true)
     public List<ProposalResponse> getProposalsForTaskOwnedByCurrentUser(@NonNull Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
-        User current = currentUserService.getCurrentUser();
+        UserPrincipal current = currentUserService.getCurrentPrincipal();
         if (current.getRole() != UserRole.ADMIN && task.getClient() != null && !task.getClient().getId().equals(current.getId())) {
             throw new BadRequestException("You are not allowed to view proposals for this task");
         }
@@ -0,0 +1,104 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Id-keyed map that is replaced by periodic full rebuilds and patched per id in between. A rebuild reads a snapshot
+// that may predate patches committed while it runs, so ids patched during a rebuild are refreshed again after the swap.
+// Reads never lock. The locks are ReentrantLocks, not monitors: a rebuild holds one across JDBC calls, and a virtual
+// thread blocking inside synchronized would stay pinned to its carrier for the whole rebuild.
+final class RebuildableMap<V> {
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private volatile Map<Long, V> entries = new ConcurrentHashMap<>();
+    // Guarded by swapLock; non-null only while a rebuild is loading.
+    private Set<Long> patchedDuringRebuild;
+
+    V get(Long id) {
+        return entries.get(id);
+    }
+
+    Collection<V> values() {
+        return entries.values();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void put(Long id, V value) {
+        swapLock.lock();
+        try {
+            entries.put(id, value);
+            trackPatch(id);
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    void remove(Long id) {
+        swapLock.lock();
+        try {
+            entries.remove(id);
+            trackPatch(id);
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    // refresher re-reads one id and applies it with put or remove. It has to read the primary: a replica that lags
+    // behind the commit that patched the id would hand back the very state the replay is meant to correct.
+    void rebuild(Supplier<Map<Long, V>> loader, Consumer<Long> refresher) {
+        rebuildLock.lock();
+        try {
+            Set<Long> patched;
+            startTracking();
+            try {
+                Map<Long, V> rebuilt = new ConcurrentHashMap<>(loader.get());
+                swapLock.lock();
+                try {
+                    entries = rebuilt;
+                    patched = patchedDuringRebuild;
+                } finally {
+                    swapLock.unlock();
+                }
+            } finally {
+                stopTracking();
+            }
+            patched.forEach(refresher);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void startTracking() {
+        swapLock.lock();
+        try {
+            patchedDuringRebuild = new HashSet<>();
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private void stopTracking() {
+        swapLock.lock();
+        try {
+            patchedDuringRebuild = null;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private void trackPatch(Long id) {
+        if (patchedDuringRebuild != null) {
+            patchedDuringRebuild.add(id);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.dto.user.ProfessionalRecommendationResponse;
+import com.gigsly.gigsly_backend_api.exception.BadRequestException;
+import com.gigsly.gigsly_backend_api.exception.ResourceNotFoundException;
+import com.gigsly.gigsly_backend_api.mapper.UserMapper;
+import com.gigsly.gigsly_backend_api.model.Skill;
+import com.gigsly.gigsly_backend_api.model.Task;
+import com.gigsly.gigsly_backend_api.model.User;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class RecommendationService {
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ProfessionalIndex professionalIndex;
+    private final CurrentUserService currentUserService;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public RecommendationService(TaskRepository taskRepository,
+                                 UserRepository userRepository,
+                                 ProfessionalIndex professionalIndex,
+                                 CurrentUserService currentUserService,
+                                 @Value("${app.recommendations.default-size:10}") int defaultLimit,
+                                 @Value("${app.recommendations.max-size:50}") int maxLimit) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.professionalIndex = professionalIndex;
+        this.currentUserService = currentUserService;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProfessionalRecommendationResponse> recommendProfessionals(@NonNull Long taskId, Integer size) {
+        Task task = taskRepository.findDetailedById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
+        UserPrincipal current = currentUserService.getCurrentPrincipal();
+        if (current.getRole() != UserRole.ADMIN && !task.getClient().getId().equals(current.getId())) {
+            throw new BadRequestException("You are not allowed to view recommendations for this task");
+        }
+
+        TaskProfile profile = toProfile(task);
+        List<ProfessionalIndex.Match> matches = professionalIndex.topMatches(profile, resolveLimit(size));
+        Map<Long, User> users = userRepository.findAllById(matches.stream().map(match -> match.profile().id()).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        int requiredSkills = profile.skills().size();
+        return matches.stream()
+                .filter(match -> users.containsKey(match.profile().id()))
+                .map(match -> toResponse(match, users.get(match.profile().id()), profile, requiredSkills))
+                .collect(Collectors.toList());
+    }
+
+    static TaskProfile toProfile(Task task) {
+        SkillSet skills = SkillSet.of(task.getSkillSet().stream().map(Skill::getId).toList());
+        return toProfile(task, skills);
+    }
+
+    static TaskProfile toProfile(Task task, SkillSet skills) {
+        return new TaskProfile(task.getId(), skills,
+                MatchScorer.normalizeCategory(task.getCategory() == null ? null : task.getCategory().getName()),
+                task.getBudgetMin(), task.getBudgetMax(),
+                Boolean.TRUE.equals(task.getIsRemote()),
+                MatchScorer.normalizeLocation(task.getLocation()));
+    }
+
+    private ProfessionalRecommendationResponse toResponse(ProfessionalIndex.Match match, User user,
+                                                          TaskProfile task, int requiredSkills) {
+        ProfessionalRecommendationResponse response = new ProfessionalRecommendationResponse();
+        response.setProfessional(UserMapper.toResponse(user));
+        response.setScore(match.score());
+        response.setMatchedSkills(match.matchedSkills());
+        response.setRequiredSkills(requiredSkills);
+        response.setCategoryMatch(task.category() != null
+                && Objects.equals(task.category(), match.profile().primaryCategory()));
+        response.setActiveTasks(match.profile().activeTasks());
+        return response;
+    }
+
+    private int resolveLimit(Integer size) {
+        if (size == null) {
+            return defaultLimit;
+        }
+        if (size < 1) {
+            throw new BadRequestException("Size must be at least 1");
+        }
+        return Math.min(size, maxLimit);
+    }
+}
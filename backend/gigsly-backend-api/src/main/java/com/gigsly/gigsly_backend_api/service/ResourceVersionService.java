@@ -0,0 +1,76 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.repository.CollectionVersion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Page validators: id and version of every row a list page renders, plus the look-ahead row that decides nextCursor,
+// read with the page's own filter, seek and order. A row's version is the latest updatedAt of the row and of each
+// association its response renders, like the single-entity validators. Bounded by the page size, not the filter.
+@Service
+public class ResourceVersionService {
+
+    private final EntityManager entityManager;
+    private final CursorPaginationService cursorPaginationService;
+
+    public ResourceVersionService(EntityManager entityManager, CursorPaginationService cursorPaginationService) {
+        this.entityManager = entityManager;
+        this.cursorPaginationService = cursorPaginationService;
+    }
+
+    @Transactional(readOnly = true)
+    public <E> CollectionVersion pageVersion(Class<E> type,
+                                             Specification<E> filter,
+                                             String cursor,
+                                             Integer size,
+                                             List<String> renderedAssociations) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<E> root = query.from(type);
+        List<Selection<?>> columns = new ArrayList<>();
+        columns.add(root.get("id"));
+        columns.add(root.get("createdAt"));
+        columns.add(root.get("updatedAt"));
+        for (String association : renderedAssociations) {
+            columns.add(root.join(association, JoinType.LEFT).get("updatedAt"));
+        }
+        query.multiselect(columns);
+        Predicate predicate = Specification.allOf(filter, cursorPaginationService.<E>seekAfter(cursor))
+                .toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+        List<Object[]> rows = entityManager.createQuery(query)
+                .setMaxResults(cursorPaginationService.resolvePageSize(size) + 1)
+                .getResultList();
+
+        StringBuilder fingerprint = new StringBuilder();
+        LocalDateTime lastModified = null;
+        for (Object[] row : rows) {
+            LocalDateTime version = (LocalDateTime) row[1];
+            for (int i = 2; i < row.length; i++) {
+                if (row[i] instanceof LocalDateTime updatedAt && updatedAt.isAfter(version)) {
+                    version = updatedAt;
+                }
+            }
+            fingerprint.append(row[0]).append('@').append(version).append(',');
+            if (lastModified == null || version.isAfter(lastModified)) {
+                lastModified = version;
+            }
+        }
+        return new CollectionVersion(fingerprint.toString(), lastModified);
+    }
+}
@@ -27,15 +27,18 @@ public class ReviewService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final CurrentUserService currentUserService;
+    private final UserStatsService userStatsService;
 
     public ReviewService(ReviewRepository reviewRepository,
                          TaskRepository taskRepository,
                          UserRepository userRepository,
-                         CurrentUserService currentUserService) {
+                         CurrentUserService currentUserService,
+                         UserStatsService userStatsService) {
         this.reviewRepository = reviewRepository;
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.currentUserService = currentUserService;
+        this.userStatsService = userStatsService;
     }
 
     @Transactional
@@ -73,6 +76,7 @@ public class ReviewService {
         review.setComment(request.getComment());
 
         Review saved = reviewRepository.save(review);
+        userStatsService.recordReview(reviewee.getId(), saved.getRating());
         return ReviewMapper.toResponse(saved);
     }
 
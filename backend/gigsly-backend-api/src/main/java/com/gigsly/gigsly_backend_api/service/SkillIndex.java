@@ -0,0 +1,70 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.SkillAssignment;
+import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Skill bitsets of every active professional, built at startup and patched by SkillService after commits.
+@Service
+public class SkillIndex {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate primaryReadTransaction;
+    private final RebuildableMap<SkillSet> professionals = new RebuildableMap<>();
+
+    public SkillIndex(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        // Not read-only, so ReadWriteRoutingDataSource keeps these reads on the primary.
+        this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+        this.primaryReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        professionals.rebuild(() -> {
+            Map<Long, List<Long>> skillIdsByUser = new HashMap<>();
+            for (SkillAssignment assignment : userRepository.findSkillAssignmentsByRole(UserRole.PROFESSIONAL)) {
+                skillIdsByUser.computeIfAbsent(assignment.ownerId(), id -> new ArrayList<>()).add(assignment.skillId());
+            }
+            Map<Long, SkillSet> rebuilt = new HashMap<>();
+            skillIdsByUser.forEach((userId, skillIds) -> rebuilt.put(userId, SkillSet.of(skillIds)));
+            return rebuilt;
+        }, professionalId -> primaryReadTransaction.executeWithoutResult(status -> refresh(professionalId)));
+    }
+
+    public SkillSet skillsOf(Long professionalId) {
+        SkillSet skills = professionals.get(professionalId);
+        return skills == null ? SkillSet.EMPTY : skills;
+    }
+
+    public int size() {
+        return professionals.size();
+    }
+
+    void putProfessional(Long professionalId, SkillSet skills) {
+        if (skills.isEmpty()) {
+            professionals.remove(professionalId);
+        } else {
+            professionals.put(professionalId, skills);
+        }
+    }
+
+    void removeProfessional(Long professionalId) {
+        professionals.remove(professionalId);
+    }
+
+    private void refresh(Long professionalId) {
+        putProfessional(professionalId,
+                SkillSet.of(userRepository.findSkillIdsByIdAndRole(professionalId, UserRole.PROFESSIONAL)));
+    }
+}
@@ -0,0 +1,200 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.Skill;
+import com.gigsly.gigsly_backend_api.model.Task;
+import com.gigsly.gigsly_backend_api.model.User;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.SkillRepository;
+import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+public class SkillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillService.class);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_SKILL_LENGTH = 100;
+    private static final int BACKFILL_CHUNK_SIZE = 1000;
+
+    private final SkillRepository skillRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final SkillIndex skillIndex;
+    private final TransactionTemplate chunkTransaction;
+    private final boolean backfillOnStartup;
+
+    public SkillService(SkillRepository skillRepository,
+                        UserRepository userRepository,
+                        TaskRepository taskRepository,
+                        SkillIndex skillIndex,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${app.skills.backfill-on-startup:false}") boolean backfillOnStartup) {
+        this.skillRepository = skillRepository;
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.skillIndex = skillIndex;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    // "  Spring   Boot " and "spring boot" are the same skill.
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String folded = WHITESPACE.matcher(raw.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        if (folded.isEmpty()) {
+            return null;
+        }
+        return folded.length() > MAX_SKILL_LENGTH ? folded.substring(0, MAX_SKILL_LENGTH).trim() : folded;
+    }
+
+    public static Set<String> normalizeAll(String commaSeparated) {
+        if (commaSeparated == null || commaSeparated.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(commaSeparated.split(","))
+                .map(SkillService::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Skill> findByName(String rawName) {
+        String name = normalize(rawName);
+        return name == null ? Optional.empty() : skillRepository.findByName(name);
+    }
+
+    @Transactional
+    public Set<Skill> resolve(Collection<String> normalizedNames) {
+        if (normalizedNames.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<Skill> skills = new HashSet<>(skillRepository.findByNameIn(normalizedNames));
+        Set<String> missing = new HashSet<>(normalizedNames);
+        skills.forEach(skill -> missing.remove(skill.getName()));
+        if (!missing.isEmpty()) {
+            missing.forEach(skillRepository::insertIfAbsent);
+            skills.addAll(skillRepository.findByNameIn(missing));
+        }
+        return skills;
+    }
+
+    // Mirrors user.skills into user_skills and refreshes the professional's bitset once the transaction commits.
+    @Transactional
+    public void syncUserSkills(User user) {
+        Set<Skill> skills = resolve(normalizeAll(user.getSkills()));
+        user.setSkillSet(skills);
+        Long userId = user.getId();
+        boolean indexed = user.getRole() == UserRole.PROFESSIONAL && !Boolean.FALSE.equals(user.getIsActive());
+        SkillSet bits = SkillSet.of(skills.stream().map(Skill::getId).collect(Collectors.toList()));
+        afterCommit(() -> {
+            if (indexed) {
+                skillIndex.putProfessional(userId, bits);
+            } else {
+                skillIndex.removeProfessional(userId);
+            }
+        });
+    }
+
+    @Transactional
+    public void syncTaskSkills(Task task) {
+        task.setSkillSet(resolve(normalizeAll(task.getRequiredSkills())));
+    }
+
+    // Links rows whose skills text predates the join tables, in id order and one transaction per chunk: the persistence
+    // context ends with each chunk, so memory and the dirty checking of every AUTO flush stay bounded by the chunk
+    // instead of growing with the table. Skill ids are read once and cached by name; only new names hit the database.
+    public void backfill() {
+        Map<String, Long> skillIds = new HashMap<>();
+        skillRepository.findAll().forEach(skill -> skillIds.put(skill.getName(), skill.getId()));
+        long users = backfillInChunks(userRepository::findWithUnlinkedSkills, User::getId,
+                user -> user.setSkillSet(references(skillIds, normalizeAll(user.getSkills()))));
+        long tasks = backfillInChunks(taskRepository::findWithUnlinkedSkills, Task::getId,
+                task -> task.setSkillSet(references(skillIds, normalizeAll(task.getRequiredSkills()))));
+        logger.info("Linked normalized skills for {} users and {} tasks", users, tasks);
+    }
+
+    // Not transactional itself: each backfill chunk commits on its own.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(StartupOrder.LINK_SKILLS)
+    public void initializeAtStartup() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+        skillIndex.rebuild();
+        logger.info("Skill index loaded with {} professionals", skillIndex.size());
+    }
+
+    private <E> long backfillInChunks(BiFunction<Long, Limit, List<E>> loader, Function<E, Long> idOf, Consumer<E> link) {
+        long linked = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<E> chunk = chunkTransaction.execute(status -> {
+                List<E> rows = loader.apply(from, Limit.of(BACKFILL_CHUNK_SIZE));
+                rows.forEach(link);
+                return rows;
+            });
+            linked += chunk.size();
+            if (chunk.size() < BACKFILL_CHUNK_SIZE) {
+                return linked;
+            }
+            afterId = idOf.apply(chunk.getLast());
+        }
+    }
+
+    private Set<Skill> references(Map<String, Long> skillIds, Set<String> names) {
+        Set<String> missing = new HashSet<>(names);
+        missing.removeAll(skillIds.keySet());
+        if (!missing.isEmpty()) {
+            resolve(missing).forEach(skill -> skillIds.put(skill.getName(), skill.getId()));
+        }
+        return names.stream()
+                .map(name -> skillRepository.getReferenceById(skillIds.get(name)))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+// Immutable bitset over skill ids; overlap of two sets is a popcount per 64-skill word.
+public final class SkillSet {
+
+    public static final SkillSet EMPTY = new SkillSet(new long[0]);
+
+    private final long[] words;
+    private final int size;
+
+    private SkillSet(long[] words) {
+        this.words = words;
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        this.size = count;
+    }
+
+    public static SkillSet of(Collection<Long> skillIds) {
+        if (skillIds == null || skillIds.isEmpty()) {
+            return EMPTY;
+        }
+        long max = skillIds.stream().filter(Objects::nonNull).mapToLong(Long::longValue).max().orElse(0);
+        long[] words = new long[(int) (max >>> 6) + 1];
+        for (Long skillId : skillIds) {
+            if (skillId != null && skillId >= 0) {
+                words[(int) (skillId >>> 6)] |= 1L << skillId;
+            }
+        }
+        return new SkillSet(words);
+    }
+
+    public boolean contains(long skillId) {
+        int word = (int) (skillId >>> 6);
+        return skillId >= 0 && word < words.length && (words[word] & (1L << skillId)) != 0;
+    }
+
+    public int overlap(SkillSet other) {
+        int shared = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < shared; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    public boolean containsAll(SkillSet other) {
+        for (int i = 0; i < other.words.length; i++) {
+            long mine = i < words.length ? words[i] : 0L;
+            if ((other.words[i] & ~mine) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SkillSet that)) {
+            return false;
+        }
+        int length = Math.max(words.length, that.words.length);
+        for (int i = 0; i < length; i++) {
+            long mine = i < words.length ? words[i] : 0L;
+            long theirs = i < that.words.length ? that.words[i] : 0L;
+            if (mine != theirs) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int end = words.length;
+        while (end > 0 && words[end - 1] == 0L) {
+            end--;
+        }
+        return Arrays.hashCode(Arrays.copyOf(words, end));
+    }
+}
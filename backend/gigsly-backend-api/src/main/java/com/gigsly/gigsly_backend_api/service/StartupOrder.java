@@ -0,0 +1,14 @@
+package com.gigsly.gigsly_backend_api.service;
+
+// @Order of the ApplicationReadyEvent listeners: listeners that repair stored data run before the ones that load it
+// into memory, otherwise an index would start from the unrepaired rows and keep them until its next rebuild.
+final class StartupOrder {
+
+    static final int RECONCILE_USER_STATS = 100;
+    // The skill backfill links legacy and seeded rows to skills, then loads SkillIndex itself.
+    static final int LINK_SKILLS = 200;
+    static final int LOAD_INDEXES = 1000;
+
+    private StartupOrder() {
+    }
+}
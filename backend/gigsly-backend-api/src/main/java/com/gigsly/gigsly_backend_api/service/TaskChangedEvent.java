@@ -0,0 +1,5 @@
+package com.gigsly.gigsly_backend_api.service;
+
+// Published inside a transaction when a task is created or its status/assignment changes.
+public record TaskChangedEvent(Long taskId) {
+}
@@ -0,0 +1,94 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
+import com.gigsly.gigsly_backend_api.dto.task.TaskResponse;
+import com.gigsly.gigsly_backend_api.exception.BadRequestException;
+import com.gigsly.gigsly_backend_api.mapper.TaskMapper;
+import com.gigsly.gigsly_backend_api.model.Task;
+import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TaskFeedService {
+
+    private final OpenTaskIndex openTaskIndex;
+    private final ProfessionalIndex professionalIndex;
+    private final SkillIndex skillIndex;
+    private final TaskRepository taskRepository;
+    private final CurrentUserService currentUserService;
+    private final CursorPaginationService cursorPaginationService;
+
+    public TaskFeedService(OpenTaskIndex openTaskIndex,
+                           ProfessionalIndex professionalIndex,
+                           SkillIndex skillIndex,
+                           TaskRepository taskRepository,
+                           CurrentUserService currentUserService,
+                           CursorPaginationService cursorPaginationService) {
+        this.openTaskIndex = openTaskIndex;
+        this.professionalIndex = professionalIndex;
+        this.skillIndex = skillIndex;
+        this.taskRepository = taskRepository;
+        this.currentUserService = currentUserService;
+        this.cursorPaginationService = cursorPaginationService;
+    }
+
+    // Scores are recomputed per page, so a task whose score moved between pages can be skipped or repeated once.
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getFeed(String cursor, Integer size) {
+        UserPrincipal current = currentUserService.getCurrentPrincipal();
+        if (current.getRole() != UserRole.PROFESSIONAL) {
+            throw new BadRequestException("Only professionals have a task feed");
+        }
+        int pageSize = cursorPaginationService.resolvePageSize(size);
+        ProfessionalProfile profile = professionalIndex.profileOf(current.getId());
+        if (profile == null) {
+            profile = new ProfessionalProfile(current.getId(), null, MatchScorer.rating(0, 0), null, 0, null);
+        }
+
+        List<OpenTaskIndex.Ranked> ranked = openTaskIndex.rank(profile, skillIndex.skillsOf(current.getId()),
+                decodeCursor(cursor), pageSize + 1);
+        boolean hasMore = ranked.size() > pageSize;
+        List<OpenTaskIndex.Ranked> page = hasMore ? ranked.subList(0, pageSize) : ranked;
+
+        Map<Long, Task> tasksById = taskRepository.findByIdIn(page.stream().map(OpenTaskIndex.Ranked::taskId).toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskResponse> items = page.stream()
+                .map(entry -> tasksById.get(entry.taskId()))
+                .filter(task -> task != null && task.getStatus() == TaskStatus.OPEN)
+                .map(TaskMapper::toResponse)
+                .collect(Collectors.toList());
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor, pageSize);
+    }
+
+    private String encodeCursor(OpenTaskIndex.Ranked last) {
+        String raw = Long.toHexString(Double.doubleToLongBits(last.score())) + "|" + last.taskId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private OpenTaskIndex.Ranked decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            double score = Double.longBitsToDouble(Long.parseUnsignedLong(raw.substring(0, separator), 16));
+            long taskId = Long.parseLong(raw.substring(separator + 1));
+            return new OpenTaskIndex.Ranked(taskId, score);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
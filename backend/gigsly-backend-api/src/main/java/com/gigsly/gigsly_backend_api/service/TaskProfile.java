@@ -0,0 +1,12 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import java.math.BigDecimal;
+
+public record TaskProfile(Long id,
+                          SkillSet skills,
+                          String category,
+                          BigDecimal budgetMin,
+                          BigDecimal budgetMax,
+                          boolean remote,
+                          String location) {
+}
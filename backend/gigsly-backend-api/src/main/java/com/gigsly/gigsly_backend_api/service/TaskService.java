@@ -1,44 +1,93 @@
 package com.gigsly.gigsly_backend_api.service;
 
+import com.gigsly.gigsly_backend_api.dto.category.CategoryResponse;
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
+import com.gigsly.gigsly_backend_api.dto.task.TaskFilter;
 import com.gigsly.gigsly_backend_api.dto.task.TaskRequest;
 import com.gigsly.gigsly_backend_api.dto.task.TaskResponse;
 import com.gigsly.gigsly_backend_api.dto.task.TaskStatusUpdateRequest;
 import com.gigsly.gigsly_backend_api.exception.BadRequestException;
 import com.gigsly.gigsly_backend_api.exception.ResourceNotFoundException;
 import com.gigsly.gigsly_backend_api.mapper.TaskMapper;
-import com.gigsly.gigsly_backend_api.model.Category;
 import com.gigsly.gigsly_backend_api.model.Task;
 import com.gigsly.gigsly_backend_api.model.TaskStatus;
 import com.gigsly.gigsly_backend_api.model.User;
 import com.gigsly.gigsly_backend_api.model.UserRole;
 import com.gigsly.gigsly_backend_api.repository.CategoryRepository;
+import com.gigsly.gigsly_backend_api.repository.CollectionVersion;
 import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import com.gigsly.gigsly_backend_api.repository.TaskSpecifications;
 import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
 
+    private static final Pattern SEARCH_TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int MAX_SEARCH_TERMS = 8;
+    static final String EXPORT_SQL = """
+            SELECT t.id, t.title, t.description, t.status, t.priority_level, t.budget_min, t.budget_max,
+                   t.deadline, t.required_skills, t.location, t.is_remote, t.estimated_duration,
+                   t.created_at, t.updated_at, t.category_id, c.name AS category_name,
+                   t.client_id, cl.full_name AS client_name,
+                   t.assigned_professional_id AS professional_id, p.full_name AS professional_name
+            FROM tasks t
+            JOIN categories c ON c.id = t.category_id
+            LEFT JOIN users cl ON cl.id = t.client_id
+            LEFT JOIN users p ON p.id = t.assigned_professional_id
+            WHERE (CAST(? AS VARCHAR) IS NULL OR t.status = ?)
+              AND (CAST(? AS BIGINT) IS NULL OR t.category_id = ?)
+            ORDER BY t.created_at DESC, t.id DESC
+            """;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final CurrentUserService currentUserService;
+    private final CursorPaginationService cursorPaginationService;
+    private final UserStatsService userStatsService;
+    private final SkillService skillService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResourceVersionService resourceVersionService;
+    private final StreamingExportService streamingExportService;
 
     public TaskService(TaskRepository taskRepository,
                        UserRepository userRepository,
                        CategoryRepository categoryRepository,
-                       CurrentUserService currentUserService) {
+                       CategoryRegistry categoryRegistry,
+                       CurrentUserService currentUserService,
+                       CursorPaginationService cursorPaginationService,
+                       UserStatsService userStatsService,
+                       SkillService skillService,
+                       ApplicationEventPublisher eventPublisher,
+                       ResourceVersionService resourceVersionService,
+                       StreamingExportService streamingExportService) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
+        this.categoryRegistry = categoryRegistry;
         this.currentUserService = currentUserService;
+        this.cursorPaginationService = cursorPaginationService;
+        this.userStatsService = userStatsService;
+        this.skillService = skillService;
+        this.eventPublisher = eventPublisher;
+        this.resourceVersionService = resourceVersionService;
+        this.streamingExportService = streamingExportService;
     }
 
     @Transactional
@@ -49,14 +98,14 @@ public class TaskService {
             throw new BadRequestException("Only clients or admins can post tasks");
         }
         Long categoryId = Objects.requireNonNull(request.getCategoryId(), "Category id is required");
-        Category category = categoryRepository.findById(categoryId)
+        CategoryResponse category = categoryRegistry.find(categoryId)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + categoryId));
 
         Task task = new Task();
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setClient(client);
-        task.setCategory(category);
+        task.setCategory(categoryRepository.getReferenceById(categoryId));
         task.setBudgetMin(request.getBudgetMin());
         task.setBudgetMax(request.getBudgetMax());
         task.setPriority(request.getPriority());
@@ -76,14 +125,17 @@ public class TaskService {
         }
 
         Task saved = taskRepository.save(task);
-        return TaskMapper.toResponse(saved);
+        skillService.syncTaskSkills(saved);
+        userStatsService.recordTaskTransition(null, null, professionalIdOf(saved), saved.getStatus());
+        eventPublisher.publishEvent(new TaskChangedEvent(saved.getId()));
+        return TaskMapper.toResponse(saved, category.getName());
     }
 
     @Transactional
     public TaskResponse updateStatus(@NonNull Long taskId, TaskStatusUpdateRequest request) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findDetailedById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
-        User current = currentUserService.getCurrentUser();
+        UserPrincipal current = currentUserService.getCurrentPrincipal();
         boolean isClient = current.getRole() == UserRole.CLIENT || current.getRole() == UserRole.ADMIN;
         if (!isClient) {
             throw new BadRequestException("Only clients or admins can update task status");
@@ -92,6 +144,8 @@ public class TaskService {
             throw new BadRequestException("You are not allowed to update this task");
         }
 
+        TaskStatus previousStatus = task.getStatus();
+        Long previousProfessionalId = professionalIdOf(task);
         TaskStatus newStatus = Objects.requireNonNull(request.getStatus(), "Task status is required");
         if (newStatus == TaskStatus.IN_PROGRESS || newStatus == TaskStatus.COMPLETED) {
             Long professionalId = request.getAssignedProfessionalId();
@@ -109,37 +163,64 @@ public class TaskService {
 
         task.setStatus(newStatus);
         Task saved = taskRepository.save(task);
+        userStatsService.recordTaskTransition(previousProfessionalId, previousStatus, professionalIdOf(saved), newStatus);
+        eventPublisher.publishEvent(new TaskChangedEvent(saved.getId()));
         return TaskMapper.toResponse(saved);
     }
 
     @Transactional(readOnly = true)
     public TaskResponse getTask(@NonNull Long id) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findDetailedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + id));
         return TaskMapper.toResponse(task);
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasks(TaskStatus status, Long categoryId, Long clientId) {
-        List<Task> tasks;
-        if (status == null && categoryId == null && clientId == null) {
-            tasks = taskRepository.findAll();
-        } else {
-            tasks = taskRepository.findAll().stream()
-                    .filter(task -> status == null || task.getStatus() == status)
-                    .filter(task -> categoryId == null || (task.getCategory() != null && task.getCategory().getId().equals(categoryId)))
-                    .filter(task -> clientId == null || (task.getClient() != null && task.getClient().getId().equals(clientId)))
-                    .collect(Collectors.toList());
-        }
+    public LocalDateTime getTaskVersion(@NonNull Long id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + id));
+    }
 
-        return tasks.stream()
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasks(TaskFilter filter, String cursor, Integer size) {
+        validateFilter(filter);
+        return cursorPaginationService.fetchPage(taskRepository, TaskSpecifications.matching(filter), cursor, size,
+                Task::getCreatedAt, Task::getId, TaskMapper::toResponse, TaskRepository.RESPONSE_GRAPH);
+    }
+
+    public StreamingResponseBody streamTasks(TaskStatus status, Long categoryId, ExportFormat format) {
+        String statusName = status == null ? null : status.name();
+        return streamingExportService.stream(EXPORT_SQL, new Object[]{statusName, statusName, categoryId, categoryId},
+                TaskResponse.class, (row, rowNum) -> TaskMapper.fromRow(row), format);
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getTasksVersion(TaskFilter filter, String cursor, Integer size) {
+        validateFilter(filter);
+        return resourceVersionService.pageVersion(Task.class, TaskSpecifications.matching(filter), cursor, size,
+                TaskRepository.RESPONSE_GRAPH);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponse> searchTasks(String text, TaskStatus status, Long categoryId, Integer size) {
+        String query = toPrefixQuery(text);
+        List<Long> ids = taskRepository.searchIds(query, status == null ? null : status.name(), categoryId,
+                cursorPaginationService.resolvePageSize(size));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> tasksById = taskRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return ids.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
                 .map(TaskMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksForCurrentUser() {
-        User current = currentUserService.getCurrentUser();
+        UserPrincipal current = currentUserService.getCurrentPrincipal();
         List<Task> tasks;
         if (current.getRole() == UserRole.CLIENT || current.getRole() == UserRole.ADMIN) {
             tasks = taskRepository.findByClientId(current.getId());
@@ -151,6 +232,10 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
+    private Long professionalIdOf(Task task) {
+        return task.getAssignedProfessional() == null ? null : task.getAssignedProfessional().getId();
+    }
+
     private User getUser(@NonNull Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
@@ -166,9 +251,9 @@ public class TaskService {
 
     @Transactional
     public TaskResponse assignProfessional(@NonNull Long taskId, @NonNull Long professionalId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findDetailedById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
-        User current = currentUserService.getCurrentUser();
+        UserPrincipal current = currentUserService.getCurrentPrincipal();
         boolean isClient = current.getRole() == UserRole.CLIENT || current.getRole() == UserRole.ADMIN;
         if (!isClient) {
             throw new BadRequestException("Only clients or admins can assign professionals");
@@ -180,15 +265,48 @@ public class TaskService {
             throw new BadRequestException("Cannot assign professional to completed or cancelled task");
         }
 
+        TaskStatus previousStatus = task.getStatus();
+        Long previousProfessionalId = professionalIdOf(task);
         User professional = validateProfessional(professionalId);
         task.setAssignedProfessional(professional);
         if (task.getStatus() == TaskStatus.OPEN) {
             task.setStatus(TaskStatus.IN_PROGRESS);
         }
         Task saved = taskRepository.save(task);
+        userStatsService.recordTaskTransition(previousProfessionalId, previousStatus, professionalId, saved.getStatus());
+        eventPublisher.publishEvent(new TaskChangedEvent(saved.getId()));
         return TaskMapper.toResponse(saved);
     }
 
+    private void validateFilter(TaskFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getBudgetMin() != null && filter.getBudgetMax() != null
+                && filter.getBudgetMin().compareTo(filter.getBudgetMax()) > 0) {
+            throw new BadRequestException("Minimum budget cannot exceed maximum budget");
+        }
+        if (filter.getDeadlineFrom() != null && filter.getDeadlineTo() != null
+                && filter.getDeadlineFrom().isAfter(filter.getDeadlineTo())) {
+            throw new BadRequestException("Deadline window start cannot be after its end");
+        }
+    }
+
+    // Every term must match, each as a prefix; only letters and digits survive, so the result is always valid tsquery syntax.
+    private String toPrefixQuery(String text) {
+        List<String> terms = text == null ? List.of() : Arrays.stream(SEARCH_TERM_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_SEARCH_TERMS)
+                .collect(Collectors.toList());
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Search query must contain at least one letter or digit");
+        }
+        return terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
     private void validateBudgetRange(TaskRequest request) {
         if (request.getBudgetMin() != null && request.getBudgetMax() != null
                 && request.getBudgetMin().compareTo(request.getBudgetMax()) > 0) {
@@ -0,0 +1,127 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.TokenRevocation;
+import com.gigsly.gigsly_backend_api.repository.TokenRevocationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final long tokenLifetimeMillis;
+
+    // token hash -> token expiry, and subject -> latest "revoke everything issued until" instant
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Instant> subjectCutoffs = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository,
+                                  @Value("${security.jwt.expiration:3600000}") long tokenLifetimeMillis) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+    }
+
+    public boolean isRevoked(String tokenHash, VerifiedToken token) {
+        if (revokedTokens.containsKey(tokenHash)) {
+            return true;
+        }
+        Instant cutoff = subjectCutoffs.get(token.getSubject());
+        return cutoff != null && (token.getIssuedAt() == null || !token.getIssuedAt().isAfter(cutoff));
+    }
+
+    @Transactional
+    public void revoke(String tokenHash, VerifiedToken token) {
+        Instant expiresAt = token.getExpiresAt() != null
+                ? token.getExpiresAt()
+                : Instant.now().plusMillis(tokenLifetimeMillis);
+        tokenRevocationRepository.insertIfAbsent(tokenHash, token.getSubject(),
+                toDateTime(Instant.now()), toDateTime(expiresAt));
+        afterCommit(() -> revokedTokens.put(tokenHash, expiresAt));
+    }
+
+    // Compared against the microsecond issued-at claim, so a token issued right after the cutoff stays valid.
+    // Microseconds because that is what revoked_at keeps.
+    @Transactional
+    public void revokeAllFor(String subject) {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        tokenRevocationRepository.save(new TokenRevocation(null, subject,
+                toDateTime(cutoff), toDateTime(cutoff.plusMillis(tokenLifetimeMillis))));
+        afterCommit(() -> subjectCutoffs.merge(subject, cutoff, TokenRevocationService::later));
+    }
+
+    // Picks up revocations written by other instances and drops entries whose tokens have expired anyway.
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.security.revocation.refresh-interval-ms:30000}",
+            initialDelayString = "${app.security.revocation.refresh-interval-ms:30000}")
+    public void reload() {
+        Instant now = Instant.now();
+        // Merged into the live maps rather than swapped: the snapshot may have been read before a revocation this
+        // instance committed meanwhile, and revocations are only ever dropped once their tokens have expired.
+        for (TokenRevocation revocation : tokenRevocationRepository.findByExpiresAtAfter(toDateTime(now))) {
+            if (revocation.getTokenHash() != null) {
+                revokedTokens.put(revocation.getTokenHash(), toInstant(revocation.getExpiresAt()));
+            } else {
+                subjectCutoffs.merge(revocation.getSubject(), toInstant(revocation.getRevokedAt()),
+                        TokenRevocationService::later);
+            }
+        }
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        subjectCutoffs.values().removeIf(cutoff -> !cutoff.plusMillis(tokenLifetimeMillis).isAfter(now));
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAtStartup() {
+        reload();
+        logger.info("Loaded {} revoked tokens and {} subject revocations", revokedTokens.size(), subjectCutoffs.size());
+    }
+
+    @Transactional
+    @Scheduled(cron = "${app.security.revocation.purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        int purged = tokenRevocationRepository.deleteExpired(toDateTime(Instant.now()));
+        logger.info("Purged {} expired token revocations", purged);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Instant later(Instant left, Instant right) {
+        return left.isAfter(right) ? left : right;
+    }
+
+    private static LocalDateTime toDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC);
+    }
+}
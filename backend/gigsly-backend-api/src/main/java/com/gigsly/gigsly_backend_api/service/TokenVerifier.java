@@ -0,0 +1,121 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Remembers tokens that already passed signature verification until they expire, so repeat
+// requests from the same client cost a SHA-256 and two map lookups instead of a full JWS parse.
+@Service
+public class TokenVerifier {
+
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer cachedTimer;
+    private final Timer parsedTimer;
+    private final Timer invalidTimer;
+
+    public TokenVerifier(JwtService jwtService,
+                         TokenRevocationService tokenRevocationService,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.security.verified-token-cache.max-size:10000}") long maxSize) {
+        this.jwtService = jwtService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.cachedTimer = verifyTimer(meterRegistry, "cached");
+        this.parsedTimer = verifyTimer(meterRegistry, "parsed");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        long start = System.nanoTime();
+        String tokenHash = hash(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(tokenHash);
+        if (verified == null) {
+            try {
+                verified = jwtService.parse(token);
+            } catch (JwtException | IllegalArgumentException ex) {
+                invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return Optional.empty();
+            }
+            verifiedTokens.put(tokenHash, verified);
+            parsedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } else {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (tokenRevocationService.isRevoked(tokenHash, verified)) {
+            return Optional.empty();
+        }
+        return Optional.of(verified);
+    }
+
+    public void revoke(String token) {
+        String tokenHash = hash(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(tokenHash);
+        if (verified == null) {
+            try {
+                verified = jwtService.parse(token);
+            } catch (JwtException | IllegalArgumentException ex) {
+                return;
+            }
+        }
+        tokenRevocationService.revoke(tokenHash, verified);
+        verifiedTokens.invalidate(tokenHash);
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("gigsly.jwt.verify")
+                .description("Token verification time; cached tokens skip the signature check")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.getExpiresAt() == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
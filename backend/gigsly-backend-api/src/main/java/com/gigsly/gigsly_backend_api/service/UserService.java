@@ -1,5 +1,6 @@
 package com.gigsly.gigsly_backend_api.service;
 
+import com.gigsly.gigsly_backend_api.dto.common.CursorPage;
 import com.gigsly.gigsly_backend_api.dto.user.ProfessionalProfileRequest;
 import com.gigsly.gigsly_backend_api.dto.user.UserRequest;
 import com.gigsly.gigsly_backend_api.dto.user.UserResponse;
@@ -7,17 +8,20 @@ import com.gigsly.gigsly_backend_api.exception.BadRequestException;
 import com.gigsly.gigsly_backend_api.exception.ConflictException;
 import com.gigsly.gigsly_backend_api.exception.ResourceNotFoundException;
 import com.gigsly.gigsly_backend_api.mapper.UserMapper;
-import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import com.gigsly.gigsly_backend_api.model.Skill;
 import com.gigsly.gigsly_backend_api.model.User;
 import com.gigsly.gigsly_backend_api.model.UserRole;
-import com.gigsly.gigsly_backend_api.repository.ReviewRepository;
-import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import com.gigsly.gigsly_backend_api.repository.CollectionVersion;
 import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -25,22 +29,45 @@ import java.util.stream.Collectors;
 @Service
 public class UserService {
 
+    // Filter for a skill nobody has; getUsers short-circuits it without a query.
+    private static final Specification<User> NO_USERS = (root, query, cb) -> cb.disjunction();
+    static final String EXPORT_SQL = """
+            SELECT u.id, u.full_name, u.email, u.mobile, u.role, u.is_verified, u.is_active, u.bio,
+                   u.profile_picture_url, u.primary_category, u.skills, u.hourly_rate, u.location,
+                   u.review_count, u.rating_sum, u.completed_projects, u.created_at, u.updated_at
+            FROM users u
+            WHERE (CAST(? AS VARCHAR) IS NULL OR u.role = ?)
+            ORDER BY u.created_at DESC, u.id DESC
+            """;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ReviewRepository reviewRepository;
-    private final TaskRepository taskRepository;
     private final CurrentUserService currentUserService;
+    private final CursorPaginationService cursorPaginationService;
+    private final CustomUserDetailsService userDetailsService;
+    private final SkillService skillService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResourceVersionService resourceVersionService;
+    private final StreamingExportService streamingExportService;
 
     public UserService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       ReviewRepository reviewRepository,
-                       TaskRepository taskRepository,
-                       CurrentUserService currentUserService) {
+                       CurrentUserService currentUserService,
+                       CursorPaginationService cursorPaginationService,
+                       CustomUserDetailsService userDetailsService,
+                       SkillService skillService,
+                       ApplicationEventPublisher eventPublisher,
+                       ResourceVersionService resourceVersionService,
+                       StreamingExportService streamingExportService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.reviewRepository = reviewRepository;
-        this.taskRepository = taskRepository;
         this.currentUserService = currentUserService;
+        this.cursorPaginationService = cursorPaginationService;
+        this.userDetailsService = userDetailsService;
+        this.skillService = skillService;
+        this.eventPublisher = eventPublisher;
+        this.resourceVersionService = resourceVersionService;
+        this.streamingExportService = streamingExportService;
     }
 
     @Transactional
@@ -55,27 +82,49 @@ public class UserService {
         User user = Objects.requireNonNull(UserMapper.toEntity(request), "Unable to create user entity");
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         User saved = userRepository.save(user);
-        return mapToResponse(saved);
+        skillService.syncUserSkills(saved);
+        userDetailsService.evict(saved.getEmail());
+        eventPublisher.publishEvent(new ProfessionalChangedEvent(saved.getId()));
+        return UserMapper.toResponse(saved);
     }
 
     @Transactional(readOnly = true)
     public UserResponse getUser(@NonNull Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + id));
-        return mapToResponse(user);
+        return UserMapper.toResponse(user);
     }
 
     @Transactional(readOnly = true)
-    public List<UserResponse> getUsers(UserRole role) {
-        List<User> users = role == null ? userRepository.findAll() : userRepository.findByRole(role);
-        return users.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public LocalDateTime getUserVersion(@NonNull Long id) {
+        return userRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> getUsers(UserRole role, String skill, String cursor, Integer size) {
+        Specification<User> filter = userFilter(role, skill);
+        if (filter == NO_USERS) {
+            return new CursorPage<>(List.of(), null, cursorPaginationService.resolvePageSize(size));
+        }
+        return cursorPaginationService.fetchPage(userRepository, filter, cursor, size,
+                User::getCreatedAt, User::getId, UserMapper::toResponse);
+    }
+
+    public StreamingResponseBody streamUsers(UserRole role, ExportFormat format) {
+        String roleName = role == null ? null : role.name();
+        return streamingExportService.stream(EXPORT_SQL, new Object[]{roleName, roleName},
+                UserResponse.class, (row, rowNum) -> UserMapper.fromRow(row), format);
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getUsersVersion(UserRole role, String skill, String cursor, Integer size) {
+        return resourceVersionService.pageVersion(User.class, userFilter(role, skill), cursor, size, List.of());
     }
 
     @Transactional(readOnly = true)
     public UserResponse getCurrentUserProfile() {
-        return mapToResponse(currentUserService.getCurrentUser());
+        return UserMapper.toResponse(currentUserService.getCurrentUser());
     }
 
     @Transactional
@@ -93,24 +142,24 @@ public class UserService {
         current.setBio(request.getBio());
         current.setLocation(request.getLocation());
         current.setMobile(request.getPhone());
+        skillService.syncUserSkills(current);
         User saved = userRepository.save(current);
-        return mapToResponse(saved);
+        userDetailsService.evict(saved.getEmail());
+        eventPublisher.publishEvent(new ProfessionalChangedEvent(saved.getId()));
+        return UserMapper.toResponse(saved);
     }
 
-    private UserResponse mapToResponse(User user) {
-        if (user == null) {
-            return null;
+    private Specification<User> userFilter(UserRole role, String skill) {
+        Specification<User> filter = role == null
+                ? Specification.allOf()
+                : (root, query, cb) -> cb.equal(root.get("role"), role);
+        if (skill == null || skill.isBlank()) {
+            return filter;
+        }
+        Long skillId = skillService.findByName(skill).map(Skill::getId).orElse(null);
+        if (skillId == null) {
+            return NO_USERS;
         }
-        UserResponse response = UserMapper.toResponse(user);
-        var reviews = reviewRepository.findByRevieweeId(user.getId());
-        int reviewCount = reviews.size();
-        double average = reviewCount == 0 ? 0.0 :
-                reviews.stream().mapToInt(r -> r.getRating() == null ? 0 : r.getRating()).average().orElse(0.0);
-        response.setReviewCount(reviewCount);
-        response.setAverageRating(reviewCount == 0 ? null : average);
-        long completedProjects = taskRepository.countByAssignedProfessionalIdAndStatus(user.getId(), TaskStatus.COMPLETED);
-        response.setCompletedProjects(completedProjects);
-        return response;
+        return filter.and((root, query, cb) -> cb.equal(root.join("skillSet").get("id"), skillId));
     }
 }
-
@@ -0,0 +1,80 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+@Service
+public class UserStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatsService.class);
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean reconcileOnStartup;
+
+    public UserStatsService(UserRepository userRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.user-stats.reconcile-on-startup:false}") boolean reconcileOnStartup) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordReview(Long revieweeId, int rating) {
+        userRepository.recordReview(revieweeId, rating);
+        eventPublisher.publishEvent(new ProfessionalChangedEvent(revieweeId));
+    }
+
+    // Keeps completed_projects and the professionals' workload in step with a task moving between statuses or professionals.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTaskTransition(Long previousProfessionalId, TaskStatus previousStatus,
+                                     Long currentProfessionalId, TaskStatus currentStatus) {
+        if (previousProfessionalId != null) {
+            eventPublisher.publishEvent(new ProfessionalChangedEvent(previousProfessionalId));
+        }
+        if (currentProfessionalId != null && !Objects.equals(previousProfessionalId, currentProfessionalId)) {
+            eventPublisher.publishEvent(new ProfessionalChangedEvent(currentProfessionalId));
+        }
+        boolean wasCompleted = previousStatus == TaskStatus.COMPLETED && previousProfessionalId != null;
+        boolean isCompleted = currentStatus == TaskStatus.COMPLETED && currentProfessionalId != null;
+        if (wasCompleted && isCompleted && Objects.equals(previousProfessionalId, currentProfessionalId)) {
+            return;
+        }
+        if (wasCompleted) {
+            userRepository.adjustCompletedProjects(previousProfessionalId, -1);
+        }
+        if (isCompleted) {
+            userRepository.adjustCompletedProjects(currentProfessionalId, 1);
+        }
+    }
+
+    @Transactional
+    @Scheduled(cron = "${app.user-stats.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        int corrected = userRepository.reconcileStats();
+        logger.info("User stats reconciliation corrected {} users", corrected);
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(StartupOrder.RECONCILE_USER_STATS)
+    public void reconcileAtStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.UserRole;
+
+import java.time.Instant;
+
+public final class VerifiedToken {
+
+    private final String subject;
+    private final Long userId;
+    private final UserRole role;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String subject, Long userId, UserRole role, Instant issuedAt, Instant expiresAt) {
+        this.subject = subject;
+        this.userId = userId;
+        this.role = role;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    // Tokens issued before the uid claim existed cannot be turned into a principal on their own.
+    public boolean isSelfContained() {
+        return subject != null && userId != null && role != null;
+    }
+
+    public UserPrincipal toPrincipal() {
+        return new UserPrincipal(userId, subject, null, role, true);
+    }
+}
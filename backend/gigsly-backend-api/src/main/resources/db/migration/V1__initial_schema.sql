@@ -0,0 +1,173 @@
+-- Initial schema. Idempotent on purpose: databases created by ddl-auto=update are baselined at version 0
+-- (spring.flyway.baseline-on-migrate) and then run this script, which only adds what they are missing.
+-- Types match what Hibernate validates against the entities (spring.jpa.hibernate.ddl-auto=validate).
+
+CREATE TABLE IF NOT EXISTS users (
+    id                  bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    full_name           varchar(100) NOT NULL,
+    email               varchar(100) NOT NULL UNIQUE,
+    password            varchar(255) NOT NULL,
+    mobile              varchar(15),
+    primary_category    varchar(100),
+    skills              text,
+    hourly_rate         numeric(10, 2),
+    location            varchar(150),
+    role                varchar(20)  NOT NULL,
+    bio                 text,
+    profile_picture_url varchar(255),
+    is_verified         boolean      NOT NULL,
+    is_active           boolean      NOT NULL,
+    review_count        integer      NOT NULL DEFAULT 0,
+    rating_sum          bigint       NOT NULL DEFAULT 0,
+    completed_projects  bigint       NOT NULL DEFAULT 0,
+    created_at          timestamp(6) NOT NULL,
+    updated_at          timestamp(6)
+);
+
+-- Denormalized review/completion aggregates postdate the first ddl-auto schemas.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS review_count integer NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS rating_sum bigint NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS completed_projects bigint NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS categories (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        varchar(100) NOT NULL UNIQUE,
+    description text,
+    icon_url    varchar(255),
+    is_active   boolean      NOT NULL,
+    created_at  timestamp(6) NOT NULL,
+    updated_at  timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id                       bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title                    varchar(200) NOT NULL,
+    description              text         NOT NULL,
+    client_id                bigint       NOT NULL REFERENCES users (id),
+    category_id              bigint       NOT NULL REFERENCES categories (id),
+    budget_min               numeric(10, 2),
+    budget_max               numeric(10, 2),
+    status                   varchar(20)  NOT NULL,
+    priority_level           varchar(20),
+    deadline                 timestamp(6),
+    required_skills          text,
+    location                 varchar(255),
+    is_remote                boolean,
+    estimated_duration       varchar(255),
+    assigned_professional_id bigint REFERENCES users (id),
+    completed_at             timestamp(6),
+    created_at               timestamp(6) NOT NULL,
+    updated_at               timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS proposals (
+    id                 bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id            bigint       NOT NULL REFERENCES tasks (id),
+    professional_id    bigint       NOT NULL REFERENCES users (id),
+    message            text         NOT NULL,
+    proposed_amount    numeric(10, 2),
+    estimated_duration varchar(255),
+    status             varchar(20)  NOT NULL,
+    created_at         timestamp(6) NOT NULL,
+    updated_at         timestamp(6),
+    accepted_at        timestamp(6),
+    rejected_at        timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS reviews (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id     bigint       NOT NULL REFERENCES tasks (id),
+    reviewer_id bigint       NOT NULL REFERENCES users (id),
+    reviewee_id bigint       NOT NULL REFERENCES users (id),
+    rating      integer      NOT NULL,
+    comment     text,
+    created_at  timestamp(6) NOT NULL,
+    updated_at  timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS contact_queries (
+    id             bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name           varchar(100) NOT NULL,
+    email          varchar(100) NOT NULL,
+    mobile         varchar(15),
+    query_type     varchar(50)  NOT NULL,
+    message        text         NOT NULL,
+    status         varchar(20)  NOT NULL,
+    admin_response text,
+    responded_at   timestamp(6),
+    responded_by   bigint REFERENCES users (id),
+    created_at     timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS skills (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       varchar(100) NOT NULL UNIQUE,
+    created_at timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS user_skills (
+    user_id  bigint NOT NULL REFERENCES users (id),
+    skill_id bigint NOT NULL REFERENCES skills (id),
+    PRIMARY KEY (user_id, skill_id)
+);
+
+CREATE TABLE IF NOT EXISTS task_skills (
+    task_id  bigint NOT NULL REFERENCES tasks (id),
+    skill_id bigint NOT NULL REFERENCES skills (id),
+    PRIMARY KEY (task_id, skill_id)
+);
+
+CREATE TABLE IF NOT EXISTS token_revocations (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash varchar(64) UNIQUE,
+    subject    varchar(255) NOT NULL,
+    revoked_at timestamp(6) NOT NULL,
+    expires_at timestamp(6) NOT NULL
+);
+
+-- Indexes, grouped by the repository queries they serve. Every foreign key is covered, either on its own or
+-- as the leading column of a composite index.
+
+-- Keyset pagination (created_at desc, id desc), unfiltered and per filter column.
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_users_role_created_at_id ON users (role, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id ON tasks (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at_id ON tasks (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_proposals_created_at_id ON proposals (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_contact_queries_created_at_id ON contact_queries (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_contact_queries_status_created_at_id ON contact_queries (status, created_at, id);
+
+-- TaskRepository: findByCategoryId, findByClientId, findByAssignedProfessionalId (with or without status),
+-- countByAssignedProfessionalIdAndStatus, and the status + deadline/budget list filters.
+CREATE INDEX IF NOT EXISTS idx_tasks_category_status ON tasks (category_id, status);
+CREATE INDEX IF NOT EXISTS idx_tasks_client_status ON tasks (client_id, status);
+CREATE INDEX IF NOT EXISTS idx_tasks_professional_status ON tasks (assigned_professional_id, status);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_deadline ON tasks (status, deadline);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_budget ON tasks (status, budget_min, budget_max);
+
+-- ProposalRepository: findByTaskId / findByProfessionalId, their pages, and existsByTaskIdAndProfessionalId.
+CREATE INDEX IF NOT EXISTS idx_proposals_task_created_at_id ON proposals (task_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_proposals_professional_created_at_id ON proposals (professional_id, created_at, id);
+
+-- ReviewRepository: findByRevieweeId (and the stats reconcile grouping by reviewee), findByReviewerId and
+-- existsByTaskIdAndReviewerIdAndRevieweeId.
+CREATE INDEX IF NOT EXISTS idx_reviews_reviewee_id ON reviews (reviewee_id);
+CREATE INDEX IF NOT EXISTS idx_reviews_reviewer_id ON reviews (reviewer_id);
+CREATE INDEX IF NOT EXISTS idx_reviews_task_reviewer_reviewee ON reviews (task_id, reviewer_id, reviewee_id);
+
+-- Admin responses reference a user; keeps user deletes from scanning contact_queries.
+CREATE INDEX IF NOT EXISTS idx_contact_queries_responded_by ON contact_queries (responded_by);
+
+-- Reverse lookups of the skill join tables (the primary keys lead with the owner).
+CREATE INDEX IF NOT EXISTS idx_user_skills_skill_id ON user_skills (skill_id);
+CREATE INDEX IF NOT EXISTS idx_task_skills_skill_id ON task_skills (skill_id);
+
+-- TokenRevocationService reload and purge.
+CREATE INDEX IF NOT EXISTS idx_token_revocations_expires_at ON token_revocations (expires_at);
+
+-- Full-text task search; must match TaskRepository.SEARCH_VECTOR exactly for the index to be used.
+CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks USING GIN (
+    (setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(required_skills, '')), 'B')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'C'))
+);
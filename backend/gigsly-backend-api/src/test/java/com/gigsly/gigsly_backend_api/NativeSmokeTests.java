@@ -0,0 +1,131 @@
+package com.gigsly.gigsly_backend_api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Black-box checks against an already running instance, meant for the native executable: each request goes through
+// code that needs reachability metadata (entity and DTO binding, JJWT, the password provider, JDBC proxies, errors).
+//   ./mvnw test -Dtest=NativeSmokeTests -Dsmoke.base-url=http://localhost:8081
+@EnabledIfSystemProperty(named = "smoke.base-url", matches = ".+")
+class NativeSmokeTests {
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String PASSWORD = "smoke-password";
+
+    private static URI baseUrl;
+    private static String email;
+    private static String token;
+    private static long categoryId;
+
+    @BeforeAll
+    static void signUp() throws Exception {
+        baseUrl = URI.create(System.getProperty("smoke.base-url"));
+        email = "smoke-" + UUID.randomUUID() + "@example.com";
+        JsonNode signup = send("POST", "/api/auth/signup", null,
+                Map.of("fullName", "Smoke Test", "email", email, "password", PASSWORD, "role", "CLIENT"), 201);
+        assertFalse(signup.get("token").asText().isEmpty());
+
+        token = send("POST", "/api/auth/login", null, Map.of("email", email, "password", PASSWORD), 200)
+                .get("token").asText();
+        JsonNode categories = send("GET", "/api/categories", null, null, 200).get("items");
+        assertTrue(categories.isArray() && categories.size() > 0, "no categories");
+        categoryId = categories.get(0).get("id").asLong();
+    }
+
+    @Test
+    void healthIsUp() throws Exception {
+        assertEquals("UP", send("GET", "/readyz", null, null, 200).get("status").asText());
+    }
+
+    @Test
+    void tokenIdentifiesTheUser() throws Exception {
+        assertEquals(email, send("GET", "/api/auth/me", token, null, 200).get("email").asText());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() throws Exception {
+        HttpResponse<String> response = exchange("POST", "/api/auth/login", null,
+                Map.of("email", email, "password", "not-" + PASSWORD));
+        assertTrue(response.statusCode() >= 400, response.body());
+        assertFalse(response.body().contains("\"token\""), response.body());
+    }
+
+    @Test
+    void missingTokenIsRejected() throws Exception {
+        assertEquals(403, exchange("GET", "/api/tasks/mine", null, null).statusCode());
+    }
+
+    @Test
+    void createdTaskCanBeReadListedAndSearched() throws Exception {
+        String title = "Smoke " + UUID.randomUUID();
+        JsonNode created = send("POST", "/api/tasks", token, Map.of(
+                "title", title,
+                "description", "Native image smoke test task",
+                "categoryId", categoryId,
+                "budgetMin", 100,
+                "budgetMax", 200,
+                "remote", true), 201);
+        long id = created.get("id").asLong();
+        assertEquals("OPEN", created.get("status").asText());
+
+        assertEquals(title, send("GET", "/api/tasks/" + id, token, null, 200).get("title").asText());
+        assertTrue(send("GET", "/api/tasks?size=5", token, null, 200).get("items").isArray());
+        assertTrue(send("GET", "/api/tasks/mine", token, null, 200).size() > 0);
+        String query = URLEncoder.encode("native smoke", StandardCharsets.UTF_8);
+        assertTrue(send("GET", "/api/tasks/search?q=" + query, token, null, 200).isArray());
+    }
+
+    @Test
+    void missingTaskIsAnErrorResponse() throws Exception {
+        JsonNode error = send("GET", "/api/tasks/" + Long.MAX_VALUE, token, null, 404);
+        assertEquals(404, error.get("status").asInt());
+        assertFalse(error.get("message").asText().isEmpty());
+    }
+
+    @Test
+    void invalidBodyListsValidationErrors() throws Exception {
+        JsonNode error = send("POST", "/api/tasks", token, Map.of("categoryId", categoryId), 400);
+        assertTrue(error.get("validationErrors").has("title"), error.toString());
+    }
+
+    private static JsonNode send(String method, String path, String bearer, Object body, int expectedStatus)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = exchange(method, path, bearer, body);
+        assertEquals(expectedStatus, response.statusCode(), method + " " + path + ": " + response.body());
+        return response.body().isEmpty() ? mapper.createObjectNode() : mapper.readTree(response.body());
+    }
+
+    private static HttpResponse<String> exchange(String method, String path, String bearer, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .header("Accept", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)));
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,118 @@
+package com.gigsly.gigsly_backend_api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+// Routes between two real databases on the local server: the application's database stands in for the primary and
+// the server's "postgres" database for the replica, told apart by current_database().
+@SpringBootTest
+class ReadWriteRoutingDataSourceTests {
+
+    @Autowired
+    private DataSourceProperties properties;
+
+    private String primary;
+    private String replica;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = dataSource(properties.getUrl());
+        DataSource replicaDataSource = dataSource(properties.getUrl().replaceFirst("/[^/?]+(\\?|$)", "/postgres$1"));
+        primary = currentDatabase(new JdbcTemplate(primaryDataSource));
+        replica = currentDatabase(new JdbcTemplate(replicaDataSource));
+        assertNotEquals(primary, replica);
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource,
+                replicaDataSource, new ReadYourWritesTracker(Duration.ofMinutes(1), 100)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbc = new JdbcTemplate(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplicaAndTheRestToThePrimary() {
+        signIn(user("alice@example.com"));
+
+        assertEquals(replica, readOnly.execute(status -> currentDatabase(jdbc)));
+        assertEquals(primary, readWrite.execute(status -> currentDatabase(jdbc)));
+        assertEquals(primary, currentDatabase(jdbc));
+    }
+
+    @Test
+    void readsStayOnThePrimaryForTheUserWhoJustWrote() {
+        signIn(user("bob@example.com"));
+        readWrite.executeWithoutResult(status -> currentDatabase(jdbc));
+
+        assertEquals(primary, readOnly.execute(status -> currentDatabase(jdbc)));
+
+        signIn(user("carol@example.com"));
+        assertEquals(replica, readOnly.execute(status -> currentDatabase(jdbc)));
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinReads() {
+        signIn(user("dave@example.com"));
+        readWrite.executeWithoutResult(status -> {
+            currentDatabase(jdbc);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(replica, readOnly.execute(status -> currentDatabase(jdbc)));
+    }
+
+    @Test
+    void anonymousWritesDoNotPinAnonymousReads() {
+        signIn(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        readWrite.executeWithoutResult(status -> currentDatabase(jdbc));
+
+        assertEquals(replica, readOnly.execute(status -> currentDatabase(jdbc)));
+    }
+
+    private DataSource dataSource(String url) {
+        return new DriverManagerDataSource(url, properties.getUsername(), properties.getPassword());
+    }
+
+    private static String currentDatabase(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("select current_database()", String.class);
+    }
+
+    private static Authentication user(String email) {
+        return new UsernamePasswordAuthenticationToken(email, null, List.of());
+    }
+
+    private static void signIn(Authentication authentication) {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
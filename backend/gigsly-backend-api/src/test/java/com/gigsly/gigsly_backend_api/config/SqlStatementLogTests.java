@@ -0,0 +1,67 @@
+package com.gigsly.gigsly_backend_api.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementLogTests {
+
+    @Test
+    void redactReplacesStringAndNumericLiterals() {
+        assertEquals("select * from users where email = ? and age > ? and score < ?",
+                SqlStatementLog.redact("select * from users where email = 'a@b.com' and age > 42 and score < -1.5"));
+    }
+
+    @Test
+    void redactHandlesEscapedQuotes() {
+        assertEquals("insert into notes (body) values (?)",
+                SqlStatementLog.redact("insert into notes (body) values ('it''s ''quoted''')"));
+    }
+
+    @Test
+    void redactKeepsIdentifiersAndPlaceholders() {
+        assertEquals("select t1.col2, $1 from table3 t1 where t1.id = ?",
+                SqlStatementLog.redact("select t1.col2, $1 from table3 t1 where t1.id = ?"));
+    }
+
+    @Test
+    void redactCollapsesWhitespace() {
+        assertEquals("select id from tasks where status = ?",
+                SqlStatementLog.redact("  select id\n\tfrom   tasks\r\n where status = 'OPEN'  "));
+    }
+
+    @Test
+    void recordAggregatesByRedactedStatement() {
+        SqlStatementLog log = new SqlStatementLog(Duration.ofHours(1), 0, 10, 16);
+        log.record("select * from tasks where id = 1", "primary", 2_000_000, 1);
+        log.record("select * from tasks where id = 2", "primary", 4_000_000, 1);
+        log.record("select * from users", "primary", 1_000_000, 7);
+
+        List<SqlStatementLog.StatementSummary> top = log.top(10, Comparator.comparingDouble(
+                SqlStatementLog.StatementSummary::totalMillis).reversed());
+
+        assertEquals(2, top.size());
+        assertEquals("select * from tasks where id = ?", top.get(0).sql());
+        assertEquals(2, top.get(0).count());
+        assertEquals(6.0, top.get(0).totalMillis(), 1e-9);
+        assertEquals(4.0, top.get(0).maxMillis(), 1e-9);
+        assertEquals(2, top.get(0).rows());
+        assertEquals(7, top.get(1).rows());
+        log.destroy();
+    }
+
+    @Test
+    void statementsBeyondTheLimitAreCountedAsUntracked() {
+        SqlStatementLog log = new SqlStatementLog(Duration.ofHours(1), 0, 1, 16);
+        log.record("select a from x", "primary", 1, 0);
+        log.record("select b from y", "primary", 1, 0);
+
+        assertEquals(1, log.top(10, Comparator.comparing(SqlStatementLog.StatementSummary::sql)).size());
+        assertEquals(1, log.getUntrackedCount());
+        log.destroy();
+    }
+}
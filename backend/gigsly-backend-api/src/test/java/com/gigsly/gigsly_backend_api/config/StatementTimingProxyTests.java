@@ -0,0 +1,118 @@
+package com.gigsly.gigsly_backend_api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatementTimingProxyTests {
+
+    private final DataSource pool = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private SqlStatementLog log;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        log = new SqlStatementLog(Duration.ofHours(1), 0, 100, 16);
+        dataSource = StatementTimingProxy.wrap(pool, "primary", log);
+        when(pool.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.destroy();
+    }
+
+    @Test
+    void queryIsRecordedWithItsRowCountWhenTheResultSetCloses() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+
+        try (Connection wrapped = dataSource.getConnection();
+             PreparedStatement prepared = wrapped.prepareStatement("select * from tasks where status = 'OPEN'")) {
+            ResultSet rows = prepared.executeQuery();
+            while (rows.next()) {
+                // drain
+            }
+            assertTrue(statements().isEmpty(), "recorded before the result set was closed");
+            rows.close();
+        }
+
+        List<SqlStatementLog.StatementSummary> recorded = statements();
+        assertEquals(1, recorded.size());
+        assertEquals("select * from tasks where status = ?", recorded.get(0).sql());
+        assertEquals(1, recorded.get(0).count());
+        assertEquals(3, recorded.get(0).rows());
+        verify(resultSet).close();
+    }
+
+    @Test
+    void updateIsRecordedWithItsUpdateCount() throws Exception {
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeUpdate("update tasks set status = 'CLOSED' where id = 7")).thenReturn(2);
+
+        try (Connection wrapped = dataSource.getConnection(); Statement created = wrapped.createStatement()) {
+            assertEquals(2, created.executeUpdate("update tasks set status = 'CLOSED' where id = 7"));
+        }
+
+        List<SqlStatementLog.StatementSummary> recorded = statements();
+        assertEquals(1, recorded.size());
+        assertEquals("update tasks set status = ? where id = ?", recorded.get(0).sql());
+        assertEquals(2, recorded.get(0).rows());
+    }
+
+    @Test
+    void unreadResultSetIsRecordedOnceWhenTheStatementCloses() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(mock(ResultSet.class));
+
+        try (Connection wrapped = dataSource.getConnection();
+             PreparedStatement prepared = wrapped.prepareStatement("select 1")) {
+            prepared.executeQuery();
+        }
+
+        assertEquals(1, statements().get(0).count());
+        assertEquals(0, statements().get(0).rows());
+    }
+
+    @Test
+    void otherCallsPassThroughToTheTarget() throws Exception {
+        when(connection.getAutoCommit()).thenReturn(false);
+        when(pool.unwrap(DataSource.class)).thenReturn(pool);
+
+        Connection wrapped = dataSource.getConnection();
+
+        assertEquals(false, wrapped.getAutoCommit());
+        assertSame(pool, dataSource.unwrap(DataSource.class));
+        assertEquals(wrapped, wrapped);
+        assertNotEquals(wrapped, dataSource.getConnection());
+        assertTrue(statements().isEmpty());
+    }
+
+    private List<SqlStatementLog.StatementSummary> statements() {
+        return log.top(10, Comparator.comparing(SqlStatementLog.StatementSummary::sql));
+    }
+}
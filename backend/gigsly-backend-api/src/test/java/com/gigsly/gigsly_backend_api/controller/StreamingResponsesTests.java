@@ -0,0 +1,49 @@
+package com.gigsly.gigsly_backend_api.controller;
+
+import com.gigsly.gigsly_backend_api.service.ExportFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StreamingResponsesTests {
+
+    @Test
+    void exportTimeoutAppliesToTheExportRequestOnly() {
+        StandardServletAsyncWebRequest export = asyncRequest();
+        StandardServletAsyncWebRequest other = asyncRequest();
+
+        ResponseEntity<StreamingResponseBody> response = StreamingResponses.export(
+                webRequest(export), Duration.ofMinutes(10), ExportFormat.NDJSON, outputStream -> { });
+        export.startAsync();
+        other.startAsync();
+
+        assertEquals(ExportFormat.NDJSON.getMediaType(), response.getHeaders().getContentType());
+        assertEquals(600_000, export.getNativeRequest(MockHttpServletRequest.class).getAsyncContext().getTimeout());
+        assertEquals(30_000, other.getNativeRequest(MockHttpServletRequest.class).getAsyncContext().getTimeout());
+    }
+
+    // What RequestMappingHandlerAdapter sets up before it invokes a handler, with the default timeout applied.
+    private static StandardServletAsyncWebRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        StandardServletAsyncWebRequest asyncRequest =
+                new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncRequest.setTimeout(30_000L);
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncRequest);
+        return asyncRequest;
+    }
+
+    private static ServletWebRequest webRequest(StandardServletAsyncWebRequest asyncRequest) {
+        return new ServletWebRequest(asyncRequest.getNativeRequest(MockHttpServletRequest.class),
+                asyncRequest.getNativeResponse(MockHttpServletResponse.class));
+    }
+}
@@ -0,0 +1,72 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.mapper.CategoryMapper;
+import com.gigsly.gigsly_backend_api.model.Category;
+import com.gigsly.gigsly_backend_api.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CategoryRegistryTests {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final CategoryRegistry registry = new CategoryRegistry(categoryRepository);
+
+    @Test
+    void categoryCreatedElsewhereIsFoundBeforeTheNextScheduledRefresh() {
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(List.of(category(1L, "Design")));
+        registry.refresh();
+
+        when(categoryRepository.existsById(2L)).thenReturn(true);
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(category(2L, "Writing"), category(1L, "Design")));
+
+        assertEquals("Writing", registry.find(2L).orElseThrow().getName());
+        assertEquals(2, registry.snapshot().newestFirst().size());
+    }
+
+    @Test
+    void unknownCategoryIsNotFoundAndKeepsTheSnapshot() {
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(List.of(category(1L, "Design")));
+        CategoryRegistry.Snapshot loaded = registry.refresh();
+
+        assertTrue(registry.find(99L).isEmpty());
+        assertEquals(loaded, registry.snapshot());
+    }
+
+    @Test
+    void knownCategoryIsServedFromTheSnapshot() {
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(List.of(category(1L, "Design")));
+        registry.refresh();
+
+        assertEquals("Design", registry.find(1L).orElseThrow().getName());
+        verify(categoryRepository, never()).existsById(any());
+    }
+
+    @Test
+    void etagChangesWithAnySerializedField() {
+        Category category = category(1L, "Design");
+        String before = CategoryRegistry.etagOf(CategoryMapper.toResponse(category));
+        category.setDescription("Changed");
+
+        assertNotEquals(before, CategoryRegistry.etagOf(CategoryMapper.toResponse(category)));
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = new Category(name, name + " work");
+        category.setId(id);
+        category.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusDays(id));
+        return category;
+    }
+}
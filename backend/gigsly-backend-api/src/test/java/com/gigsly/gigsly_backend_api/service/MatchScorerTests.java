@@ -0,0 +1,70 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchScorerTests {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void perfectFitScoresOne() {
+        TaskProfile task = task(SkillSet.of(List.of(1L, 2L)), "design", true, null);
+        ProfessionalProfile professional = new ProfessionalProfile(1L, "design", 5.0, new BigDecimal("50"), 0, null);
+
+        assertEquals(1.0, MatchScorer.score(task, professional, SkillSet.of(List.of(1L, 2L, 3L))), EPSILON);
+    }
+
+    @Test
+    void skillFitIsTheCoveredShareOfRequiredSkills() {
+        assertEquals(0.5, MatchScorer.skillFit(SkillSet.of(List.of(1L, 2L)), SkillSet.of(List.of(2L, 9L))), EPSILON);
+        assertEquals(0.5, MatchScorer.skillFit(SkillSet.EMPTY, SkillSet.of(List.of(2L))), EPSILON);
+    }
+
+    @Test
+    void ratingIsPulledTowardsThePrior() {
+        assertEquals(3.5, MatchScorer.rating(0, 0), EPSILON);
+        assertTrue(MatchScorer.rating(5, 1) < MatchScorer.rating(100, 20));
+    }
+
+    @Test
+    void rateAboveBudgetLosesFitProportionally() {
+        BigDecimal min = new BigDecimal("40");
+        BigDecimal max = new BigDecimal("100");
+
+        assertEquals(1.0, MatchScorer.rateFit(new BigDecimal("70"), min, max), EPSILON);
+        assertEquals(0.8, MatchScorer.rateFit(new BigDecimal("20"), min, max), EPSILON);
+        assertEquals(0.5, MatchScorer.rateFit(new BigDecimal("150"), min, max), EPSILON);
+        assertEquals(0.0, MatchScorer.rateFit(new BigDecimal("300"), min, max), EPSILON);
+        assertEquals(0.5, MatchScorer.rateFit(null, min, max), EPSILON);
+    }
+
+    @Test
+    void locationOnlyMattersForOnSiteTasks() {
+        assertEquals(1.0, MatchScorer.locationFit(true, "berlin", "paris"), EPSILON);
+        assertEquals(0.0, MatchScorer.locationFit(false, "berlin", "paris"), EPSILON);
+        assertEquals(0.5, MatchScorer.locationFit(false, "berlin", null), EPSILON);
+    }
+
+    @Test
+    void workloadFitShrinksWithActiveTasks() {
+        assertEquals(1.0, MatchScorer.workloadFit(0), EPSILON);
+        assertEquals(0.25, MatchScorer.workloadFit(3), EPSILON);
+    }
+
+    @Test
+    void categoriesAndLocationsAreNormalized() {
+        assertEquals("web design", MatchScorer.normalizeCategory("  Web Design "));
+        assertNull(MatchScorer.normalizeLocation("   "));
+    }
+
+    private static TaskProfile task(SkillSet skills, String category, boolean remote, String location) {
+        return new TaskProfile(100L, skills, category, new BigDecimal("40"), new BigDecimal("100"), remote, location);
+    }
+}
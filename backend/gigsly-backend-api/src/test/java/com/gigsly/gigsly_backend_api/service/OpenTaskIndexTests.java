@@ -0,0 +1,99 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import com.gigsly.gigsly_backend_api.repository.OpenTaskRow;
+import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OpenTaskIndexTests {
+
+    private static final ProfessionalProfile PROFESSIONAL =
+            new ProfessionalProfile(1L, "design", 4.0, new BigDecimal("50"), 0, null);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final OpenTaskIndex index = new OpenTaskIndex(taskRepository, transactionManager);
+
+    @BeforeEach
+    void setUp() {
+        when(taskRepository.findSkillAssignmentsByStatus(TaskStatus.OPEN)).thenReturn(List.of());
+        when(taskRepository.findSkillIds(anyLong())).thenReturn(List.of());
+    }
+
+    @Test
+    void equalScoresRankNewerTasksFirst() {
+        when(taskRepository.findRowsByStatus(TaskStatus.OPEN)).thenReturn(List.of(
+                row(3L, "design"), row(7L, "writing"), row(5L, "design"), row(4L, "writing")));
+        index.rebuild();
+
+        List<OpenTaskIndex.Ranked> ranked = index.rank(PROFESSIONAL, SkillSet.EMPTY, null, 10);
+
+        assertEquals(List.of(5L, 3L, 7L, 4L), ranked.stream().map(OpenTaskIndex.Ranked::taskId).toList());
+        assertEquals(ranked.get(0).score(), ranked.get(1).score());
+    }
+
+    @Test
+    void pagesResumeFromTheScoreAndIdCursorWithoutGapsOrRepeats() {
+        List<OpenTaskRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 11; id++) {
+            rows.add(row(id, id % 3 == 0 ? "design" : "writing"));
+        }
+        when(taskRepository.findRowsByStatus(TaskStatus.OPEN)).thenReturn(rows);
+        index.rebuild();
+
+        List<Long> paged = new ArrayList<>();
+        OpenTaskIndex.Ranked after = null;
+        List<OpenTaskIndex.Ranked> page;
+        do {
+            page = index.rank(PROFESSIONAL, SkillSet.EMPTY, after, 4);
+            page.forEach(ranked -> paged.add(ranked.taskId()));
+            after = page.isEmpty() ? null : page.getLast();
+        } while (page.size() == 4);
+
+        List<Long> all = index.rank(PROFESSIONAL, SkillSet.EMPTY, null, 100).stream()
+                .map(OpenTaskIndex.Ranked::taskId).toList();
+        assertEquals(List.of(9L, 6L, 3L, 11L, 10L, 8L, 7L, 5L, 4L, 2L, 1L), all);
+        assertEquals(all, paged);
+    }
+
+    @Test
+    void tasksOpenedOrClosedDuringARebuildAreNotLost() {
+        when(taskRepository.findRowByIdAndStatus(2L, TaskStatus.OPEN)).thenReturn(Optional.of(row(2L, "design")));
+        when(taskRepository.findRowByIdAndStatus(3L, TaskStatus.OPEN)).thenReturn(Optional.empty());
+        when(taskRepository.findRowsByStatus(any())).thenAnswer(invocation -> {
+            // Task 2 was created and task 3 closed after the rebuild read its snapshot.
+            index.onTaskChanged(new TaskChangedEvent(2L));
+            index.onTaskChanged(new TaskChangedEvent(3L));
+            return List.of(row(1L, "design"), row(3L, "design"));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(2L, 1L), index.rank(PROFESSIONAL, SkillSet.EMPTY, null, 10).stream()
+                .map(OpenTaskIndex.Ranked::taskId).toList());
+        // Both ids are replayed in read-write transactions, which ReadWriteRoutingDataSource keeps on the primary.
+        verify(transactionManager, times(2)).getTransaction(argThat(definition -> !definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    private static OpenTaskRow row(Long id, String category) {
+        return new OpenTaskRow(id, category, new BigDecimal("40"), new BigDecimal("100"), true, null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.User;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.TaskRepository;
+import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProfessionalIndexTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final SkillIndex skillIndex = new SkillIndex(userRepository, mock(PlatformTransactionManager.class));
+    private final ProfessionalIndex index = new ProfessionalIndex(userRepository, taskRepository, skillIndex,
+            mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        when(taskRepository.countByProfessionalForStatus(any())).thenReturn(List.of());
+    }
+
+    @Test
+    void topMatchesKeepsTheBestAndBreaksTiesByLowerId() {
+        List<User> professionals = List.of(
+                professional(5L, "design", true), professional(2L, "design", true),
+                professional(9L, "design", true), professional(4L, "writing", true));
+        when(userRepository.findByRoleAndIsActiveTrue(UserRole.PROFESSIONAL)).thenReturn(professionals);
+        skillIndex.putProfessional(9L, SkillSet.of(List.of(1L, 2L)));
+        skillIndex.putProfessional(5L, SkillSet.of(List.of(1L)));
+        skillIndex.putProfessional(2L, SkillSet.of(List.of(1L)));
+        index.rebuild();
+
+        TaskProfile task = new TaskProfile(100L, SkillSet.of(List.of(1L, 2L)), "design", null, null, true, null);
+        List<ProfessionalIndex.Match> matches = index.topMatches(task, 2);
+
+        assertEquals(List.of(9L, 2L), matches.stream().map(match -> match.profile().id()).toList());
+        assertEquals(2, matches.get(0).matchedSkills());
+        assertEquals(1, matches.get(1).matchedSkills());
+        assertEquals(4, index.topMatches(task, 10).size());
+    }
+
+    @Test
+    void patchesCommittedDuringARebuildAreNotLost() {
+        User joined = professional(2L, "design", true);
+        User deactivated = professional(3L, "design", false);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(joined));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(deactivated));
+        when(userRepository.findByRoleAndIsActiveTrue(UserRole.PROFESSIONAL)).thenAnswer(invocation -> {
+            // The rebuild read its snapshot before these two changes committed.
+            index.onProfessionalChanged(new ProfessionalChangedEvent(2L));
+            index.onProfessionalChanged(new ProfessionalChangedEvent(3L));
+            return List.of(professional(1L, "design", true), professional(3L, "design", true));
+        });
+
+        index.rebuild();
+
+        assertNotNull(index.profileOf(1L));
+        assertNotNull(index.profileOf(2L));
+        assertNull(index.profileOf(3L));
+        assertEquals(2, index.size());
+    }
+
+    private static User professional(Long id, String category, boolean active) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(UserRole.PROFESSIONAL);
+        user.setIsActive(active);
+        user.setPrimaryCategory(category);
+        user.setHourlyRate(new BigDecimal("50"));
+        return user;
+    }
+}
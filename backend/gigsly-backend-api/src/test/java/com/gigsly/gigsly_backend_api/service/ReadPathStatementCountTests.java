@@ -0,0 +1,118 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.dto.task.TaskFilter;
+import com.gigsly.gigsly_backend_api.model.Category;
+import com.gigsly.gigsly_backend_api.model.Proposal;
+import com.gigsly.gigsly_backend_api.model.Review;
+import com.gigsly.gigsly_backend_api.model.Task;
+import com.gigsly.gigsly_backend_api.model.User;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ReadPathStatementCountTests {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProposalService proposalService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    private Statistics statistics;
+    private Task firstTask;
+    private User client;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Category category = new Category("Statement Count " + System.nanoTime(), "Test category");
+        entityManager.persist(category);
+        client = persistUser("client", UserRole.CLIENT);
+
+        for (int i = 0; i < ROWS; i++) {
+            User professional = persistUser("pro" + i, UserRole.PROFESSIONAL);
+            Task task = new Task("Statement count task " + i, "Description", client, category);
+            task.setAssignedProfessional(professional);
+            entityManager.persist(task);
+            if (firstTask == null) {
+                firstTask = task;
+            }
+
+            Proposal proposal = new Proposal(firstTask, professional, "Proposal " + i);
+            entityManager.persist(proposal);
+
+            Review review = new Review(task, professional, client, 4);
+            entityManager.persist(review);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void taskPageIsLoadedInOneStatement() {
+        TaskFilter filter = new TaskFilter();
+        filter.setClientId(client.getId());
+
+        assertEquals(ROWS, taskService.getTasks(filter, null, ROWS).getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void proposalPageIsLoadedInOneStatement() {
+        assertEquals(ROWS, proposalService.getProposals(firstTask.getId(), null, null, ROWS).getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void clientProposalPageIsLoadedInOneStatement() {
+        UserPrincipal principal = UserPrincipal.from(client);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        try {
+            assertEquals(ROWS, proposalService.getProposalsForCurrentUser(null, ROWS).getItems().size());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void reviewsForUserAreLoadedInOneStatement() {
+        assertEquals(ROWS, reviewService.getReviewsForUser(client.getId()).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private User persistUser(String prefix, UserRole role) {
+        String email = prefix + "-" + System.nanoTime() + "@statement-count.test";
+        User user = new User("Test " + prefix, email, "not-a-real-hash", role);
+        entityManager.persist(user);
+        return user;
+    }
+}
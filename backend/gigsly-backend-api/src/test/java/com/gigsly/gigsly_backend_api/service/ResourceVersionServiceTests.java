@@ -0,0 +1,110 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.dto.task.TaskFilter;
+import com.gigsly.gigsly_backend_api.model.Category;
+import com.gigsly.gigsly_backend_api.model.Task;
+import com.gigsly.gigsly_backend_api.model.User;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.CollectionVersion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ResourceVersionServiceTests {
+
+    private static final int ROWS = 6;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskService taskService;
+
+    private Statistics statistics;
+    private Category category;
+    private User client;
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        category = new Category("Page Version " + System.nanoTime(), "Test category");
+        entityManager.persist(category);
+        client = new User("Page Version Client", "client-" + System.nanoTime() + "@page-version.test",
+                "not-a-real-hash", UserRole.CLIENT);
+        entityManager.persist(client);
+        for (int i = 0; i < ROWS; i++) {
+            Task task = new Task("Page version task " + i, "Description", client, category);
+            entityManager.persist(task);
+            tasks.add(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void onlyThePageWindowIsReadInOneStatement() {
+        CollectionVersion version = taskService.getTasksVersion(clientFilter(), null, PAGE_SIZE);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(PAGE_SIZE + 1, version.rows().split(",").length);
+    }
+
+    @Test
+    void renamingTheCategoryChangesTheVersion() throws InterruptedException {
+        CollectionVersion before = taskService.getTasksVersion(clientFilter(), null, PAGE_SIZE);
+
+        Thread.sleep(5);
+        entityManager.find(Category.class, category.getId()).setName("Renamed " + System.nanoTime());
+        entityManager.flush();
+
+        assertNotEquals(before, taskService.getTasksVersion(clientFilter(), null, PAGE_SIZE));
+    }
+
+    @Test
+    void renamingTheClientChangesTheVersion() throws InterruptedException {
+        CollectionVersion before = taskService.getTasksVersion(clientFilter(), null, PAGE_SIZE);
+
+        Thread.sleep(5);
+        entityManager.find(User.class, client.getId()).setFullName("Renamed Client");
+        entityManager.flush();
+
+        assertNotEquals(before, taskService.getTasksVersion(clientFilter(), null, PAGE_SIZE));
+    }
+
+    @Test
+    void deletingARowOfThePageChangesTheVersion() {
+        CollectionVersion before = taskService.getTasksVersion(clientFilter(), null, PAGE_SIZE);
+
+        // The newest task is first in the window; an older row slides in behind it.
+        entityManager.remove(entityManager.find(Task.class, tasks.get(ROWS - 2).getId()));
+        entityManager.flush();
+
+        assertNotEquals(before, taskService.getTasksVersion(clientFilter(), null, PAGE_SIZE));
+    }
+
+    private TaskFilter clientFilter() {
+        TaskFilter filter = new TaskFilter();
+        filter.setClientId(client.getId());
+        return filter;
+    }
+}
@@ -0,0 +1,38 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.SkillAssignment;
+import com.gigsly.gigsly_backend_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SkillIndexTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SkillIndex index = new SkillIndex(userRepository, mock(PlatformTransactionManager.class));
+
+    @Test
+    void profilesChangedDuringARebuildAreNotLost() {
+        when(userRepository.findSkillIdsByIdAndRole(2L, UserRole.PROFESSIONAL)).thenReturn(List.of(5L));
+        when(userRepository.findSkillIdsByIdAndRole(3L, UserRole.PROFESSIONAL)).thenReturn(List.of());
+        when(userRepository.findSkillAssignmentsByRole(UserRole.PROFESSIONAL)).thenAnswer(invocation -> {
+            // Professional 2 added a skill and professional 3 was deactivated after the rebuild read its snapshot.
+            index.putProfessional(2L, SkillSet.of(List.of(5L)));
+            index.removeProfessional(3L);
+            return List.of(new SkillAssignment(1L, 4L), new SkillAssignment(3L, 4L));
+        });
+
+        index.rebuild();
+
+        assertEquals(SkillSet.of(List.of(4L)), index.skillsOf(1L));
+        assertEquals(SkillSet.of(List.of(5L)), index.skillsOf(2L));
+        assertEquals(SkillSet.EMPTY, index.skillsOf(3L));
+        assertEquals(2, index.size());
+    }
+}
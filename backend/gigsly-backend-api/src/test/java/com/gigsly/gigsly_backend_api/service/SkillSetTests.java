@@ -0,0 +1,54 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillSetTests {
+
+    @Test
+    void overlapCountsSharedSkillsAcrossWords() {
+        SkillSet required = SkillSet.of(List.of(1L, 63L, 64L, 130L));
+        SkillSet offered = SkillSet.of(List.of(1L, 64L, 200L));
+
+        assertEquals(2, required.overlap(offered));
+        assertEquals(2, offered.overlap(required));
+        assertEquals(4, required.size());
+    }
+
+    @Test
+    void containsAllHandlesSetsOfDifferentLengths() {
+        SkillSet wide = SkillSet.of(List.of(3L, 70L, 300L));
+
+        assertTrue(wide.containsAll(SkillSet.of(List.of(3L, 70L))));
+        assertFalse(SkillSet.of(List.of(3L, 70L)).containsAll(wide));
+        assertTrue(wide.containsAll(SkillSet.EMPTY));
+        assertTrue(wide.contains(300L));
+        assertFalse(wide.contains(301L));
+        assertFalse(wide.contains(-1L));
+    }
+
+    @Test
+    void nullAndNegativeIdsAreIgnored() {
+        assertEquals(SkillSet.of(List.of(5L)), SkillSet.of(Arrays.asList(null, -7L, 5L)));
+        assertSame(SkillSet.EMPTY, SkillSet.of(null));
+        assertTrue(SkillSet.of(List.of(-1L)).isEmpty());
+    }
+
+    @Test
+    void equalSetsHaveEqualHashCodes() {
+        SkillSet first = SkillSet.of(List.of(2L, 90L));
+        SkillSet second = SkillSet.of(List.of(90L, 2L, 2L));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, SkillSet.of(List.of(2L)));
+    }
+}
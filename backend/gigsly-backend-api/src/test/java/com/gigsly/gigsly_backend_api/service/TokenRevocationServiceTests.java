@@ -0,0 +1,89 @@
+package com.gigsly.gigsly_backend_api.service;
+
+import com.gigsly.gigsly_backend_api.model.TokenRevocation;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTests {
+
+    private static final long LIFETIME_MILLIS = 3_600_000;
+
+    private final TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+    private final TokenRevocationService service = new TokenRevocationService(repository, LIFETIME_MILLIS);
+
+    @Test
+    void revokedTokenSurvivesAReloadFromAnOlderSnapshot() {
+        VerifiedToken token = token("alice@example.com", Instant.now());
+        service.revoke("hash-1", token);
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+
+        service.reload();
+
+        assertTrue(service.isRevoked("hash-1", token));
+    }
+
+    @Test
+    void reloadAddsRevocationsFromOtherInstancesAndDropsExpiredOnes() {
+        Instant now = Instant.now();
+        service.revoke("expired", new VerifiedToken("bob@example.com", 2L, UserRole.CLIENT,
+                now.minusSeconds(7200), now.minusSeconds(1)));
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                new TokenRevocation("remote", "carol@example.com", utc(now), utc(now.plusSeconds(600))),
+                new TokenRevocation(null, "dave@example.com", utc(now), utc(now.plusMillis(LIFETIME_MILLIS)))));
+
+        service.reload();
+
+        assertTrue(service.isRevoked("remote", token("carol@example.com", now)));
+        assertTrue(service.isRevoked("other", token("dave@example.com", now.minusMillis(1))));
+        assertFalse(service.isRevoked("expired", token("bob@example.com", now)));
+    }
+
+    @Test
+    void revokingTheSameTokenTwiceInsertsWithoutCheckingFirst() {
+        VerifiedToken token = token("erin@example.com", Instant.now());
+
+        service.revoke("hash-2", token);
+        service.revoke("hash-2", token);
+
+        verify(repository, times(2)).insertIfAbsent(any(), any(), any(), any());
+        assertTrue(service.isRevoked("hash-2", token));
+    }
+
+    @Test
+    void logoutAllRevokesEarlierTokensButNotOnesIssuedRightAfter() throws InterruptedException {
+        JwtService jwtService = new JwtService("MHhPUmtsdUkwQ0FjT3R0UjdDQXh6Sk5qM1pURmZLWTFhN0lQQzZYSg==",
+                LIFETIME_MILLIS);
+        UserPrincipal user = new UserPrincipal(7L, "frank@example.com", null, UserRole.PROFESSIONAL, true);
+        VerifiedToken before = jwtService.parse(jwtService.generateToken(user));
+        Thread.sleep(1);
+
+        service.revokeAllFor("frank@example.com");
+        Thread.sleep(1);
+        VerifiedToken after = jwtService.parse(jwtService.generateToken(user));
+
+        assertTrue(service.isRevoked("before", before));
+        assertFalse(service.isRevoked("after", after));
+    }
+
+    private static VerifiedToken token(String subject, Instant issuedAt) {
+        return new VerifiedToken(subject, 1L, UserRole.CLIENT, issuedAt, issuedAt.plusMillis(LIFETIME_MILLIS));
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# Compares two JMH JSON result files benchmark by benchmark: score (with error) and allocation per op.
+# Usage: compare.sh <baseline.json> <candidate.json>
+set -euo pipefail
+
+if [[ $# -ne 2 ]]; then
+  echo "usage: $0 <baseline.json> <candidate.json>" >&2
+  exit 1
+fi
+
+summarize() {
+  jq -r '.[] | [
+      .benchmark + (if .params then " " + ([.params | to_entries[] | "\(.key)=\(.value)"] | join(",")) else "" end),
+      .primaryMetric.score, .primaryMetric.scoreError, .primaryMetric.scoreUnit,
+      (.secondaryMetrics["gc.alloc.rate.norm"].score // "n/a")
+    ] | @tsv' "$1" | sed 's/^com\.gigsly\.gigsly_backend_benchmarks\.//' | sort -t $'\t' -k1,1
+}
+
+join -t $'\t' <(summarize "$1") <(summarize "$2") | awk -F '\t' '
+  BEGIN { printf "%-70s %14s %14s %8s %12s %12s\n", "benchmark", "baseline", "candidate", "change", "B/op base", "B/op cand" }
+  {
+    change = $2 == 0 ? 0 : ($6 - $2) / $2 * 100
+    printf "%-70s %8.3f±%-5.3f %8.3f±%-5.3f %+7.1f%% %12s %12s  %s\n", $1, $2, $3, $6, $7, change, $5, $9, $4
+  }'
@@ -0,0 +1,27 @@
+package com.gigsly.gigsly_backend_benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of benchmarks.jar: the JMH command line, with the GC profiler added unless a profiler is
+ * chosen explicitly, so every run reports allocation rate (gc.alloc.rate.norm, bytes per operation)
+ * next to time.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-prof") && !arguments.contains("-l") && !arguments.contains("-h")) {
+            arguments.add(0, "gc");
+            arguments.add(0, "-prof");
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,113 @@
+package com.gigsly.gigsly_backend_benchmarks;
+
+import com.gigsly.gigsly_backend_api.model.Category;
+import com.gigsly.gigsly_backend_api.model.Task;
+import com.gigsly.gigsly_backend_api.model.TaskPriority;
+import com.gigsly.gigsly_backend_api.model.TaskStatus;
+import com.gigsly.gigsly_backend_api.model.User;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic, fully populated entities shaped like production rows, shared by the benchmarks.
+ */
+public final class Fixtures {
+
+    public static final String JWT_SECRET = "MHhPUmtsdUkwQ0FjT3R0UjdDQXh6Sk5qM1pURmZLWTFhN0lQQzZYSg==";
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 14, 9, 26, 53);
+    private static final String[] SKILLS = {"plumbing", "electrical", "carpentry", "painting", "tiling",
+            "roofing", "gardening", "cleaning", "moving", "appliance repair"};
+
+    private Fixtures() {
+    }
+
+    public static User user(long id, UserRole role, int skillCount) {
+        User user = new User();
+        user.setId(id);
+        user.setFullName("Benchmark User " + id);
+        user.setEmail("user" + id + "@gigsly.test");
+        user.setMobile("+1555000" + (1000 + id % 9000));
+        user.setRole(role);
+        user.setIsVerified(true);
+        user.setIsActive(true);
+        user.setBio("Reliable and punctual, ten years of experience with residential and small commercial jobs.");
+        user.setProfilePictureUrl("https://cdn.gigsly.test/avatars/" + id + ".png");
+        user.setPrimaryCategory("Home Repair");
+        user.setSkills(skills(skillCount));
+        user.setHourlyRate(new BigDecimal("45.00"));
+        user.setLocation("Austin, TX");
+        user.setReviewCount(37);
+        user.setRatingSum(171L);
+        user.setCompletedProjects(52L);
+        user.setCreatedAt(CREATED);
+        user.setUpdatedAt(CREATED.plusDays(id % 30));
+        return user;
+    }
+
+    public static Task task(long id, User client, User professional, Category category) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Fix leaking kitchen sink #" + id);
+        task.setDescription("The kitchen sink has been leaking under the cabinet for a week; the trap and supply "
+                + "lines probably need replacing. Tools and parts can be picked up on the way.");
+        task.setStatus(professional == null ? TaskStatus.OPEN : TaskStatus.IN_PROGRESS);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setBudgetMin(new BigDecimal("80.00"));
+        task.setBudgetMax(new BigDecimal("150.00"));
+        task.setDeadline(CREATED.plusDays(7));
+        task.setRequiredSkills(skills(3));
+        task.setLocation("Austin, TX");
+        task.setIsRemote(false);
+        task.setEstimatedDuration("2-3 hours");
+        task.setClient(client);
+        task.setAssignedProfessional(professional);
+        task.setCategory(category);
+        task.setCreatedAt(CREATED);
+        task.setUpdatedAt(CREATED.plusHours(id % 48));
+        return task;
+    }
+
+    public static Category category(long id) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName("Home Repair");
+        category.setDescription("Repairs and maintenance around the house");
+        return category;
+    }
+
+    // Half the tasks are assigned, like a mature marketplace's mix of open and in-progress work.
+    public static List<Task> tasks(int count) {
+        User client = user(1, UserRole.CLIENT, 0);
+        User professional = user(2, UserRole.PROFESSIONAL, 5);
+        Category category = category(3);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(100 + i, client, i % 2 == 0 ? null : professional, category));
+        }
+        return tasks;
+    }
+
+    public static List<User> users(int count, int skillCount) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(user(1000 + i, UserRole.PROFESSIONAL, skillCount));
+        }
+        return users;
+    }
+
+    private static String skills(int count) {
+        StringBuilder skills = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                skills.append(i % 3 == 0 ? " , " : ",");
+            }
+            skills.append(SKILLS[i % SKILLS.length]);
+        }
+        return count == 0 ? null : skills.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.gigsly.gigsly_backend_benchmarks.auth;
+
+import com.gigsly.gigsly_backend_api.config.BoundedPasswordEncoder;
+import com.gigsly.gigsly_backend_api.config.PasswordAuthenticationProvider;
+import com.gigsly.gigsly_backend_api.config.PasswordHashingExecutor;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.service.JwtService;
+import com.gigsly.gigsly_backend_api.service.UserPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login path of AuthService.authenticate without the database: ProviderManager, the application's
+ * PasswordAuthenticationProvider behind the bounded hashing pool, and token issuance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private static final String EMAIL = "benchmark@gigsly.test";
+    private static final String PASSWORD = "correct-horse-battery-staple";
+    private static final String SECRET = "MHhPUmtsdUkwQ0FjT3R0UjdDQXh6Sk5qM1pURmZLWTFhN0lQQzZYSg==";
+
+    @Param({"10", "12", "14"})
+    private int bcryptStrength;
+
+    private PasswordHashingExecutor executor;
+    private AuthenticationManager authenticationManager;
+    private JwtService jwtService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new PasswordHashingExecutor(Runtime.getRuntime().availableProcessors(), 1024);
+        PasswordEncoder encoder = new BoundedPasswordEncoder(BoundedPasswordEncoder.delegating(bcryptStrength), executor);
+        UserPrincipal principal = new UserPrincipal(1L, EMAIL, encoder.encode(PASSWORD), UserRole.CLIENT, true);
+        authenticationManager = new ProviderManager(new PasswordAuthenticationProvider(
+                username -> principal, encoder, null));
+        jwtService = new JwtService(SECRET, 3_600_000L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public String authenticate() {
+        return login();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String authenticateUnderContention() {
+        return login();
+    }
+
+    private String login() {
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+        return jwtService.generateToken((UserDetails) authentication.getPrincipal());
+    }
+}
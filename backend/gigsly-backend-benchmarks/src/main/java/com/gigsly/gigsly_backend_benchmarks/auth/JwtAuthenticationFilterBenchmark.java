@@ -0,0 +1,77 @@
+package com.gigsly.gigsly_backend_benchmarks.auth;
+
+import com.gigsly.gigsly_backend_api.config.JwtAuthenticationFilter;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.service.JwtService;
+import com.gigsly.gigsly_backend_api.service.TokenRevocationService;
+import com.gigsly.gigsly_backend_api.service.TokenVerifier;
+import com.gigsly.gigsly_backend_api.service.UserPrincipal;
+import com.gigsly.gigsly_backend_benchmarks.Fixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter on an authenticated request: header parsing, cached token verification and
+ * building the Authentication from the token's claims. Each invocation builds a fresh mock request, whose
+ * cost is measured on its own by requestOnly and should be subtracted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtService jwtService = new JwtService(Fixtures.JWT_SECRET, 3_600_000L);
+        TokenVerifier tokenVerifier = new TokenVerifier(jwtService, new TokenRevocationService(null, 3_600_000L),
+                new SimpleMeterRegistry(), 10_000);
+        filter = new JwtAuthenticationFilter(tokenVerifier, username -> {
+            throw new IllegalStateException("self-contained tokens must not load the user");
+        });
+        authorization = "Bearer " + jwtService.generateToken(
+                new UserPrincipal(7L, "user7@gigsly.test", null, UserRole.PROFESSIONAL, true));
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws ServletException, IOException {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public MockHttpServletRequest requestOnly() {
+        return request();
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+}
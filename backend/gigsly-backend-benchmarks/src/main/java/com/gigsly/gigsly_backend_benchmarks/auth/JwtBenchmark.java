@@ -0,0 +1,67 @@
+package com.gigsly.gigsly_backend_benchmarks.auth;
+
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_api.service.JwtService;
+import com.gigsly.gigsly_backend_api.service.TokenRevocationService;
+import com.gigsly.gigsly_backend_api.service.TokenVerifier;
+import com.gigsly.gigsly_backend_api.service.UserPrincipal;
+import com.gigsly.gigsly_backend_api.service.VerifiedToken;
+import com.gigsly.gigsly_backend_benchmarks.Fixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuance and verification: a full JWS parse (signature, expiry, claims) against the
+ * TokenVerifier paths every authenticated request takes, with the verified-token cache warm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+    private TokenVerifier tokenVerifier;
+    private UserPrincipal principal;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtService(Fixtures.JWT_SECRET, 3_600_000L);
+        tokenVerifier = new TokenVerifier(jwtService, new TokenRevocationService(null, 3_600_000L),
+                new SimpleMeterRegistry(), 10_000);
+        principal = new UserPrincipal(7L, "user7@gigsly.test", null, UserRole.PROFESSIONAL, true);
+        token = jwtService.generateToken(principal);
+        tokenVerifier.verify(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateToken(principal);
+    }
+
+    @Benchmark
+    public VerifiedToken parse() {
+        return jwtService.parse(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return tokenVerifier.verify(token);
+    }
+}
@@ -0,0 +1,59 @@
+package com.gigsly.gigsly_backend_benchmarks.mapper;
+
+import com.gigsly.gigsly_backend_api.dto.task.TaskResponse;
+import com.gigsly.gigsly_backend_api.dto.user.UserResponse;
+import com.gigsly.gigsly_backend_api.mapper.TaskMapper;
+import com.gigsly.gigsly_backend_api.mapper.UserMapper;
+import com.gigsly.gigsly_backend_api.model.Task;
+import com.gigsly.gigsly_backend_api.model.User;
+import com.gigsly.gigsly_backend_api.model.UserRole;
+import com.gigsly.gigsly_backend_benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for one row: runs once per element of every list response. skillCount drives
+ * UserMapper's comma splitting, the only non-trivial work in either mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MapperBenchmark {
+
+    @Param({"0", "5", "20"})
+    private int skillCount;
+
+    private Task task;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        task = Fixtures.tasks(2).get(1);
+        user = Fixtures.user(42, UserRole.PROFESSIONAL, skillCount);
+    }
+
+    @Benchmark
+    public TaskResponse taskToResponse() {
+        return TaskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return UserMapper.toResponse(user);
+    }
+}
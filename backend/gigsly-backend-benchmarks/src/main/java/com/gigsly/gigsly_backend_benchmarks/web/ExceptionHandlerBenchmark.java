@@ -0,0 +1,66 @@
+package com.gigsly.gigsly_backend_benchmarks.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gigsly.gigsly_backend_api.exception.ErrorResponse;
+import com.gigsly.gigsly_backend_api.exception.GlobalExceptionHandler;
+import com.gigsly.gigsly_backend_api.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The 404 path as a controller produces it: a service throws ResourceNotFoundException (stack trace
+ * included), GlobalExceptionHandler builds the ErrorResponse and Jackson writes it. Probing clients and
+ * stale links make this path far hotter than its name suggests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("GET", "/api/tasks/424242");
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleNotFound() {
+        try {
+            throw findTask(424242L);
+        } catch (ResourceNotFoundException ex) {
+            return handler.handleResourceNotFound(ex, request);
+        }
+    }
+
+    @Benchmark
+    public byte[] handleAndSerializeNotFound() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handleNotFound().getBody());
+    }
+
+    private static ResourceNotFoundException findTask(Long id) {
+        return new ResourceNotFoundException("Task not found with id " + id);
+    }
+}
@@ -0,0 +1,64 @@
+package com.gigsly.gigsly_backend_benchmarks.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gigsly.gigsly_backend_api.dto.task.TaskResponse;
+import com.gigsly.gigsly_backend_api.dto.user.UserResponse;
+import com.gigsly.gigsly_backend_api.mapper.TaskMapper;
+import com.gigsly.gigsly_backend_api.mapper.UserMapper;
+import com.gigsly.gigsly_backend_benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of list responses with an ObjectMapper configured like Spring Boot's (Java time module,
+ * ISO dates). size matches the default and maximum page sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JacksonBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TaskResponse> tasks;
+    private List<UserResponse> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+        tasks = Fixtures.tasks(size).stream().map(TaskMapper::toResponse).toList();
+        users = Fixtures.users(size, 5).stream().map(UserMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] taskList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] userList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(users);
+    }
+}
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Runs the same load against the API in platform-thread and virtual-thread mode, one after the other.
+# Extra arguments are passed to the load driver (e.g. --email=... --password=... --concurrency=2000).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+API_JAR=${API_JAR:-gigsly-backend-api/target/gigsly-backend-api-0.0.1-SNAPSHOT-exec.jar}
+LOADTEST_JAR=${LOADTEST_JAR:-gigsly-backend-loadtest/target/loadtest.jar}
+PORT=${PORT:-8081}
+RESULTS=${RESULTS:-gigsly-backend-loadtest/target/results}
+mkdir -p "$RESULTS"
+
+run_mode() {
+  local label=$1 profiles=$2
+  echo "== $label"
+  java ${JAVA_OPTS:-} -jar "$API_JAR" --server.port="$PORT" --spring.profiles.active="$profiles" \
+      > "$RESULTS/$label-api.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+  until curl -s -o /dev/null "http://localhost:$PORT/api/categories"; do
+    kill -0 "$pid" || { echo "API failed to start, see $RESULTS/$label-api.log"; exit 1; }
+    sleep 1
+  done
+  java -jar "$LOADTEST_JAR" --base-url="http://localhost:$PORT" --label="$label" \
+      --output="$RESULTS/$label.hgrm" "$@" | tee "$RESULTS/$label.txt"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform default "$@"
+run_mode virtual-threads virtual-threads "$@"
+echo "pinning warnings in virtual-threads run: $(grep -c "Virtual thread pinned" "$RESULTS/virtual-threads-api.log" || true)"
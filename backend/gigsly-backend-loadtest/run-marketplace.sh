@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# End to end: database -> schema (API boots once) -> COPY seed -> API restart (stats reconcile, indexes) -> mix.
+# The API counts as up once readiness reports UP, i.e. after its startup jobs have run.
+# With DB_URL unset a throwaway postgres:16 container is started on DB_PORT and removed afterwards.
+# Marketplace counts and mix options are passed through, e.g.
+#   ./gigsly-backend-loadtest/run-marketplace.sh --clients=200000 --professionals=50000 --tasks=1000000 --concurrency=500
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+API_JAR=${API_JAR:-gigsly-backend-api/target/gigsly-backend-api-0.0.1-SNAPSHOT-exec.jar}
+LOADTEST_JAR=${LOADTEST_JAR:-gigsly-backend-loadtest/target/loadtest.jar}
+PORT=${PORT:-8081}
+DB_PORT=${DB_PORT:-55432}
+DB_USER=${DB_USER:-postgres}
+export DB_PASSWORD=${DB_PASSWORD:-loadtest}
+RESULTS=${RESULTS:-gigsly-backend-loadtest/target/results}
+mkdir -p "$RESULTS"
+
+container=""
+api_pid=""
+cleanup() {
+  [[ -n "$api_pid" ]] && kill "$api_pid" 2>/dev/null || true
+  [[ -n "$container" ]] && docker rm -f "$container" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+if [[ -z "${DB_URL:-}" ]]; then
+  container=gigsly-loadtest-db
+  docker rm -f "$container" >/dev/null 2>&1 || true
+  docker run -d --name "$container" -p "$DB_PORT:5432" -e POSTGRES_PASSWORD="$DB_PASSWORD" -e POSTGRES_DB=Gigsly \
+      postgres:16 -c shared_buffers=1GB -c max_wal_size=8GB -c checkpoint_timeout=30min >/dev/null
+  until docker exec "$container" pg_isready -U "$DB_USER" -d Gigsly >/dev/null 2>&1; do sleep 1; done
+  DB_URL="jdbc:postgresql://localhost:$DB_PORT/Gigsly"
+fi
+
+start_api() {
+  local log=$1
+  java ${JAVA_OPTS:-} -jar "$API_JAR" --server.port="$PORT" --spring.datasource.url="$DB_URL" \
+      --spring.datasource.username="$DB_USER" > "$log" 2>&1 &
+  api_pid=$!
+  until curl -sf -o /dev/null "http://localhost:$PORT/readyz"; do
+    kill -0 "$api_pid" || { echo "API failed to start, see $log"; exit 1; }
+    sleep 1
+  done
+}
+
+stop_api() {
+  kill "$api_pid"
+  wait "$api_pid" 2>/dev/null || true
+  api_pid=""
+}
+
+echo "== schema"
+start_api "$RESULTS/schema-api.log"
+stop_api
+
+echo "== seed"
+java -jar "$LOADTEST_JAR" seed --jdbc-url="$DB_URL" --db-user="$DB_USER" --db-password="$DB_PASSWORD" "$@"
+
+echo "== load"
+start_api "$RESULTS/mix-api.log"
+java -jar "$LOADTEST_JAR" mix --base-url="http://localhost:$PORT" --output-dir="$RESULTS" "$@" | tee "$RESULTS/mix.txt"
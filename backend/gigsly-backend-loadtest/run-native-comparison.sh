@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# JVM jar vs GraalVM native executable: startup and RSS (run-startup.sh), then the same GET load against each,
+# with resident and peak memory read from /proc before and after the load.
+# Needs the jar, target/gigsly-backend-api from ./mvnw -Pnative native:compile and a migrated database.
+# Extra arguments go to the load driver, e.g. --email=... --password=... --concurrency=500 --rate=2000
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+LOADTEST_JAR=${LOADTEST_JAR:-gigsly-backend-loadtest/target/loadtest.jar}
+FASTSTART=gigsly-backend-api/faststart.sh
+PORT=${PORT:-8081}
+RESULTS=${RESULTS:-gigsly-backend-loadtest/target/results}
+mkdir -p "$RESULTS"
+
+MODES="jar native" PORT="$PORT" RESULTS="$RESULTS" gigsly-backend-loadtest/run-startup.sh
+
+memory() {
+  awk '/^VmRSS|^VmHWM/ { printf "%s %d MB  ", $1, $2 / 1024 }' "/proc/$1/status"
+}
+
+for mode in jar native; do
+  echo "== $mode"
+  "$FASTSTART" run "$mode" --server.port="$PORT" > "$RESULTS/$mode-load-api.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+  until curl -sf -o /dev/null "http://localhost:$PORT/readyz"; do
+    kill -0 "$pid" || { echo "API failed to start, see $RESULTS/$mode-load-api.log"; exit 1; }
+    sleep 0.2
+  done
+  echo "$mode idle: $(memory "$pid")" | tee "$RESULTS/$mode-memory.txt"
+  java -jar "$LOADTEST_JAR" --base-url="http://localhost:$PORT" --label="$mode" \
+      --output="$RESULTS/$mode.hgrm" "$@" | tee "$RESULTS/$mode.txt"
+  echo "$mode after load: $(memory "$pid")" | tee -a "$RESULTS/$mode-memory.txt"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+done
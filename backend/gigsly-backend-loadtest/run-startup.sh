@@ -0,0 +1,30 @@
+#!/usr/bin/env bash
+# Time until the readiness probe answers for each startup mode of the API (see gigsly-backend-api/faststart.sh).
+# Needs a jar built with -Pfaststart (and -Pcrac plus a CRaC JDK for the crac mode) and a migrated database.
+# MODES picks the modes; extra arguments go to the API, e.g. --spring.datasource.url=...
+#   MODES="jar aot cds aot-cds" ./gigsly-backend-loadtest/run-startup.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+LOADTEST_JAR=${LOADTEST_JAR:-gigsly-backend-loadtest/target/loadtest.jar}
+FASTSTART=gigsly-backend-api/faststart.sh
+PORT=${PORT:-8081}
+RUNS=${RUNS:-5}
+MODES=${MODES:-jar aot cds aot-cds}
+RESULTS=${RESULTS:-gigsly-backend-loadtest/target/results}
+mkdir -p "$RESULTS"
+
+if [[ " $MODES " == *" cds "* || " $MODES " == *" aot-cds "* ]]; then
+  echo "== training run for the CDS archives"
+  "$FASTSTART" cds --server.port="$PORT" "$@" > "$RESULTS/cds-training.log" 2>&1
+fi
+if [[ " $MODES " == *" crac "* ]]; then
+  echo "== CRaC checkpoint"
+  "$FASTSTART" crac --server.port="$PORT" "$@" > "$RESULTS/crac-checkpoint.log" 2>&1
+fi
+
+for mode in $MODES; do
+  java -jar "$LOADTEST_JAR" startup --label="$mode" --runs="$RUNS" --url="http://localhost:$PORT/readyz" \
+      --log="$RESULTS/$mode-startup.log" -- "$FASTSTART" run "$mode" --server.port="$PORT" "$@" \
+      | tee "$RESULTS/$mode-startup.txt"
+done
@@ -0,0 +1,25 @@
+package com.gigsly.gigsly_backend_loadtest;
+
+import java.util.Arrays;
+
+// loadtest.jar entry point: `seed ...` fills a database, `mix ...` drives the marketplace scenario mix,
+// `startup ...` times cold starts, and plain --options keep running the GET path driver (LoadTest).
+public final class Launcher {
+
+    private Launcher() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0 || args[0].startsWith("--")) {
+            LoadTest.main(args);
+            return;
+        }
+        String[] rest = Arrays.copyOfRange(args, 1, args.length);
+        switch (args[0]) {
+            case "seed" -> MarketplaceSeeder.main(rest);
+            case "mix" -> MarketplaceLoad.main(rest);
+            case "startup" -> StartupBenchmark.main(rest);
+            default -> throw new IllegalArgumentException("Unknown command " + args[0] + "; expected seed, mix or startup");
+        }
+    }
+}
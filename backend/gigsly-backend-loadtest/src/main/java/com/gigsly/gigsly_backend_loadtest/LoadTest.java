@@ -0,0 +1,177 @@
+package com.gigsly.gigsly_backend_loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Drives a running API with N concurrent clients, one virtual thread each, and records every request's
+// latency in an HdrHistogram. Closed loop by default (each client sends its next request when the previous
+// one returns). With --rate, each client follows a fixed schedule and latency is measured from the intended
+// send time, so a stalled server is charged for the requests it delayed (no coordinated omission).
+public final class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private List<HttpRequest> requests;
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(options.requestTimeout())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(LoadTestOptions.parse(args)).run();
+    }
+
+    private void run() throws Exception {
+        requests = buildRequests(login());
+        System.out.printf("%s: %d clients, %s, warmup %ds, measure %ds against %s%n", options.label(),
+                options.concurrency(), options.openLoop() ? "open loop at " + options.rate() + " req/s" : "closed loop",
+                options.warmup().toSeconds(), options.duration().toSeconds(), options.baseUrl());
+
+        long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+        long end = warmupEnd + options.duration().toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                int clientIndex = i;
+                clients.submit(() -> runClient(clientIndex, end));
+            }
+            sleepUntil(warmupEnd);
+            recorder.getIntervalHistogram();
+            statuses.clear();
+            failures.reset();
+
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+            Histogram interval = null;
+            long measureStart = System.nanoTime();
+            long intervalStart = measureStart;
+            while (System.nanoTime() < end) {
+                sleepUntil(Math.min(end, intervalStart + TimeUnit.SECONDS.toNanos(5)));
+                interval = recorder.getIntervalHistogram(interval);
+                total.add(interval);
+                long now = System.nanoTime();
+                System.out.printf("  +%3ds  %8.0f req/s  p50 %7.2f ms  p99 %8.2f ms%n",
+                        TimeUnit.NANOSECONDS.toSeconds(now - measureStart),
+                        interval.getTotalCount() / ((now - intervalStart) / 1e9), millis(interval, 50), millis(interval, 99));
+                intervalStart = now;
+            }
+            report(total, (System.nanoTime() - measureStart) / 1e9);
+        }
+    }
+
+    private void runClient(int clientIndex, long end) {
+        long period = options.openLoop() ? (long) (1e9 * options.concurrency() / options.rate()) : 0;
+        // Spread open-loop clients across one period so they do not fire in lockstep.
+        long intendedStart = System.nanoTime() + (period * clientIndex) / Math.max(1, options.concurrency());
+        int next = clientIndex;
+        while (true) {
+            if (options.openLoop()) {
+                sleepUntil(intendedStart);
+            } else {
+                intendedStart = System.nanoTime();
+            }
+            if (intendedStart >= end) {
+                return;
+            }
+            HttpRequest request = requests.get(next++ % requests.size());
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                statuses.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+            } catch (IOException ex) {
+                failures.increment();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (System.nanoTime() - intendedStart) / 1000));
+            intendedStart += period;
+        }
+    }
+
+    private String login() throws IOException, InterruptedException {
+        if (options.email() == null) {
+            return null;
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        String body = mapper.writeValueAsString(Map.of("email", options.email(), "password", options.password()));
+        HttpRequest request = HttpRequest.newBuilder(options.baseUrl().resolve("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with HTTP " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode json = mapper.readTree(response.body());
+        return json.get("token").asText();
+    }
+
+    private List<HttpRequest> buildRequests(String token) {
+        return options.paths().stream()
+                .map(path -> {
+                    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                            .timeout(options.requestTimeout())
+                            .GET();
+                    if (token != null) {
+                        builder.header("Authorization", "Bearer " + token);
+                    }
+                    return builder.build();
+                })
+                .toList();
+    }
+
+    private void report(Histogram total, double seconds) throws IOException {
+        System.out.printf("%n%s: %d requests in %.1fs = %.0f req/s, %d transport failures, statuses %s%n",
+                options.label(), total.getTotalCount(), seconds, total.getTotalCount() / seconds,
+                failures.sum(), statuses);
+        System.out.printf("latency ms  p50 %.2f  p90 %.2f  p99 %.2f  p99.9 %.2f  max %.2f%n",
+                millis(total, 50), millis(total, 90), millis(total, 99), millis(total, 99.9),
+                total.getMaxValue() / 1000.0);
+        if (options.output() != null) {
+            try (PrintStream out = new PrintStream(new FileOutputStream(options.output()))) {
+                total.outputPercentileDistribution(out, 1000.0);
+            }
+            System.out.println("percentile distribution (ms) written to " + options.output());
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.gigsly.gigsly_backend_loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// --name=value command line options; see README.md for the meaning of each.
+public record LoadTestOptions(URI baseUrl,
+                              int concurrency,
+                              Duration warmup,
+                              Duration duration,
+                              double rate,
+                              List<String> paths,
+                              String email,
+                              String password,
+                              Duration requestTimeout,
+                              String label,
+                              String output) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = values(args);
+        List<String> paths = new ArrayList<>();
+        for (String path : values.getOrDefault("paths", "/api/tasks?size=20,/api/categories").split(",")) {
+            if (!path.isBlank()) {
+                paths.add(path.trim());
+            }
+        }
+        return new LoadTestOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8081")),
+                Integer.parseInt(values.getOrDefault("concurrency", "1000")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "15"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "60"))),
+                Double.parseDouble(values.getOrDefault("rate", "0")),
+                List.copyOf(paths),
+                values.get("email"),
+                values.get("password"),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout-seconds", "30"))),
+                values.getOrDefault("label", "run"),
+                values.get("output"));
+    }
+
+    public boolean openLoop() {
+        return rate > 0;
+    }
+
+    static Map<String, String> values(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return values;
+    }
+}
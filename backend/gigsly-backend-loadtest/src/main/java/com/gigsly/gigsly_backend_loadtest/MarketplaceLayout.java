@@ -0,0 +1,151 @@
+package com.gigsly.gigsly_backend_loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+// The synthetic marketplace is a pure function of these counts, so the seeder and the load driver agree on
+// every id, owner, status and existing proposal without the driver reading the database. Users 1..clients are
+// clients and the next `professionals` ids are professionals; task i belongs to client (i - 1) % clients.
+// Both sides must be given the same counts.
+public record MarketplaceLayout(int categories,
+                                int clients,
+                                int professionals,
+                                int tasks,
+                                int proposalsPerTask) {
+
+    public static final String OPEN = "OPEN";
+    public static final String IN_PROGRESS = "IN_PROGRESS";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String CANCELLED = "CANCELLED";
+
+    // Already in the form SkillService.normalize produces; skill i has id i + 1.
+    public static final List<String> SKILLS = List.of("plumbing", "electrical", "carpentry", "painting", "tiling",
+            "roofing", "gardening", "cleaning", "moving", "appliance repair", "drywall", "flooring", "hvac",
+            "landscaping", "furniture assembly", "pressure washing");
+
+    private static final String EMAIL_DOMAIN = "@loadtest.gigsly.dev";
+
+    public MarketplaceLayout {
+        if (categories < 1 || clients < 1 || professionals < 1 || tasks < 0 || proposalsPerTask < 0) {
+            throw new IllegalArgumentException("Marketplace counts must be positive");
+        }
+        if (proposalsPerTask > professionals) {
+            throw new IllegalArgumentException("proposals-per-task cannot exceed professionals");
+        }
+    }
+
+    static MarketplaceLayout from(Map<String, String> values) {
+        return new MarketplaceLayout(
+                Integer.parseInt(values.getOrDefault("categories", "40")),
+                Integer.parseInt(values.getOrDefault("clients", "200000")),
+                Integer.parseInt(values.getOrDefault("professionals", "50000")),
+                Integer.parseInt(values.getOrDefault("tasks", "1000000")),
+                Integer.parseInt(values.getOrDefault("proposals-per-task", "3")));
+    }
+
+    public int users() {
+        return clients + professionals;
+    }
+
+    public long clientId(int clientIndex) {
+        return clientIndex + 1L;
+    }
+
+    public long professionalId(int professionalIndex) {
+        return clients + professionalIndex + 1L;
+    }
+
+    public String clientEmail(int clientIndex) {
+        return "client" + clientIndex + EMAIL_DOMAIN;
+    }
+
+    public String professionalEmail(int professionalIndex) {
+        return "pro" + professionalIndex + EMAIL_DOMAIN;
+    }
+
+    public long categoryId(long taskId) {
+        return 1 + taskId % categories;
+    }
+
+    // 40% open, 30% in progress, 25% completed, 5% cancelled.
+    public String status(long taskId) {
+        int bucket = (int) (taskId % 20);
+        if (bucket < 8) {
+            return OPEN;
+        }
+        if (bucket < 14) {
+            return IN_PROGRESS;
+        }
+        return bucket < 19 ? COMPLETED : CANCELLED;
+    }
+
+    public int clientIndexOf(long taskId) {
+        return (int) ((taskId - 1) % clients);
+    }
+
+    // The j-th task (0-based) of a client, or -1 past the client's last task.
+    public long taskOf(int clientIndex, long j) {
+        long taskId = j * clients + clientIndex + 1;
+        return taskId <= tasks ? taskId : -1;
+    }
+
+    public long tasksOf(int clientIndex) {
+        return clientIndex < tasks ? (tasks - clientIndex - 1) / clients + 1 : 0;
+    }
+
+    // In-progress and completed tasks went to their first proposer; open and cancelled tasks are unassigned.
+    public int assignedProfessional(long taskId) {
+        String status = status(taskId);
+        return status.equals(IN_PROGRESS) || status.equals(COMPLETED) ? proposer(taskId, 0) : -1;
+    }
+
+    public int proposer(long taskId, int k) {
+        int step = Math.max(1, professionals / Math.max(1, proposalsPerTask));
+        return (int) ((taskId * 7 + (long) k * step) % professionals);
+    }
+
+    public boolean hasSeededProposal(long taskId, int professionalIndex) {
+        for (int k = 0; k < proposalsPerTask; k++) {
+            if (proposer(taskId, k) == professionalIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long skillId(int skillIndex) {
+        return skillIndex + 1L;
+    }
+
+    // 3 to 7 skills per professional, 1 to 3 per task: runs of consecutive SKILLS entries, wrapping around.
+    public int[] professionalSkills(int professionalIndex) {
+        return skillRun(professionalId(professionalIndex), 3, 5);
+    }
+
+    public int[] taskSkills(long taskId) {
+        return skillRun(-taskId, 1, 3);
+    }
+
+    private static int[] skillRun(long key, int min, int spread) {
+        long hash = mix(key);
+        int[] run = new int[min + (int) Long.remainderUnsigned(hash, spread)];
+        int start = (int) Long.remainderUnsigned(hash >>> 32, SKILLS.size());
+        for (int i = 0; i < run.length; i++) {
+            run[i] = (start + i) % SKILLS.size();
+        }
+        return run;
+    }
+
+    // SplitMix64 finalizer: consecutive ids get unrelated skill runs.
+    private static long mix(long key) {
+        long z = key * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Half of the completed tasks come with both reviews; the other half are left for the load driver to review.
+    public boolean hasSeededReviews(long taskId) {
+        return status(taskId).equals(COMPLETED) && taskId % 2 == 0;
+    }
+}
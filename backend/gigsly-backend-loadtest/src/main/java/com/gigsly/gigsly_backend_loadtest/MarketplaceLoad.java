@@ -0,0 +1,402 @@
+package com.gigsly.gigsly_backend_loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Drives the seeded marketplace with a weighted mix of user actions and records each action's latency in its own
+// HdrHistogram. A fixed set of personas (the first N clients and professionals) log in up front; writes follow
+// the marketplace's rules: professionals propose on open tasks of persona clients, those clients accept pending
+// proposals, and reviews go to tasks that were accepted during the run or completed without reviews in the seed.
+// When an action has nothing valid to act on (e.g. no pending proposal yet) a list-tasks request runs instead and
+// is counted as a fallback of the original action. Loop and timing model as in LoadTest.
+public final class MarketplaceLoad {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int PICK_ATTEMPTS = 8;
+
+    private final MarketplaceLoadOptions options;
+    private final MarketplaceLayout layout;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<Scenario, Recorder> recorders = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, Map<Integer, LongAdder>> statuses = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> fallbacks = new EnumMap<>(Scenario.class);
+    private final LongAdder failures = new LongAdder();
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    private final Queue<PendingProposal> pendingProposals = new ConcurrentLinkedQueue<>();
+    private final Queue<ReviewCandidate> reviewCandidates = new ConcurrentLinkedQueue<>();
+    private final Set<Long> acceptedTasks = ConcurrentHashMap.newKeySet();
+    private final Set<Long> proposedPairs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> reviewedTasks = ConcurrentHashMap.newKeySet();
+    private String[] clientTokens;
+    private String[] professionalTokens;
+
+    private record PendingProposal(long proposalId, long taskId, int clientIndex, int professionalIndex) {
+    }
+
+    private record ReviewCandidate(long taskId, int clientIndex, long revieweeId) {
+    }
+
+    // A ready-to-send request; onSuccess gets the body of a 2xx response when readBody is set.
+    private record Attempt(Scenario scenario, HttpRequest request, boolean readBody, Consumer<String> onSuccess) {
+    }
+
+    private MarketplaceLoad(MarketplaceLoadOptions options) {
+        this.options = options;
+        this.layout = options.layout();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(options.requestTimeout())
+                .build();
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            statuses.put(scenario, new ConcurrentHashMap<>());
+            fallbacks.put(scenario, new LongAdder());
+        }
+        scenarios = options.mix().keySet().toArray(Scenario[]::new);
+        cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += options.mix().get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new MarketplaceLoad(MarketplaceLoadOptions.parse(args)).run();
+    }
+
+    private void run() throws Exception {
+        loginPersonas();
+        System.out.printf("%s: %d clients, %s, mix %s, warmup %ds, measure %ds against %s%n", options.label(),
+                options.concurrency(), options.openLoop() ? "open loop at " + options.rate() + " req/s" : "closed loop",
+                options.mix(), options.warmup().toSeconds(), options.duration().toSeconds(), options.baseUrl());
+
+        long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+        long end = warmupEnd + options.duration().toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                int clientIndex = i;
+                clients.submit(() -> runClient(clientIndex, end));
+            }
+            sleepUntil(warmupEnd);
+            recorders.values().forEach(Recorder::getIntervalHistogram);
+            statuses.values().forEach(Map::clear);
+            fallbacks.values().forEach(LongAdder::reset);
+            failures.reset();
+
+            Map<Scenario, Histogram> totals = new EnumMap<>(Scenario.class);
+            Map<Scenario, Histogram> intervals = new EnumMap<>(Scenario.class);
+            for (Scenario scenario : Scenario.values()) {
+                totals.put(scenario, new Histogram(HIGHEST_TRACKABLE_MICROS, 3));
+            }
+            long measureStart = System.nanoTime();
+            long intervalStart = measureStart;
+            while (System.nanoTime() < end) {
+                sleepUntil(Math.min(end, intervalStart + TimeUnit.SECONDS.toNanos(5)));
+                Histogram combined = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+                for (Scenario scenario : Scenario.values()) {
+                    Histogram interval = recorders.get(scenario).getIntervalHistogram(intervals.get(scenario));
+                    intervals.put(scenario, interval);
+                    totals.get(scenario).add(interval);
+                    combined.add(interval);
+                }
+                long now = System.nanoTime();
+                System.out.printf("  +%3ds  %8.0f req/s  p50 %7.2f ms  p99 %8.2f ms%n",
+                        TimeUnit.NANOSECONDS.toSeconds(now - measureStart),
+                        combined.getTotalCount() / ((now - intervalStart) / 1e9), millis(combined, 50), millis(combined, 99));
+                intervalStart = now;
+            }
+            report(totals, (System.nanoTime() - measureStart) / 1e9);
+        }
+    }
+
+    private void runClient(int clientIndex, long end) {
+        long period = options.openLoop() ? (long) (1e9 * options.concurrency() / options.rate()) : 0;
+        long intendedStart = System.nanoTime() + (period * clientIndex) / Math.max(1, options.concurrency());
+        while (true) {
+            if (options.openLoop()) {
+                sleepUntil(intendedStart);
+            } else {
+                intendedStart = System.nanoTime();
+            }
+            if (intendedStart >= end) {
+                return;
+            }
+            Scenario picked = pick();
+            Attempt attempt = prepare(picked);
+            if (attempt == null) {
+                fallbacks.get(picked).increment();
+                attempt = prepare(Scenario.LIST_TASKS);
+            }
+            try {
+                send(attempt, intendedStart);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            intendedStart += period;
+        }
+    }
+
+    private void send(Attempt attempt, long intendedStart) throws InterruptedException {
+        try {
+            int status;
+            if (attempt.readBody()) {
+                HttpResponse<String> response = client.send(attempt.request(), HttpResponse.BodyHandlers.ofString());
+                status = response.statusCode();
+                if (status / 100 == 2) {
+                    attempt.onSuccess().accept(response.body());
+                }
+            } else {
+                status = client.send(attempt.request(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status / 100 == 2 && attempt.onSuccess() != null) {
+                    attempt.onSuccess().accept(null);
+                }
+            }
+            statuses.get(attempt.scenario()).computeIfAbsent(status, code -> new LongAdder()).increment();
+        } catch (IOException ex) {
+            failures.increment();
+        }
+        recorders.get(attempt.scenario())
+                .recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (System.nanoTime() - intendedStart) / 1000));
+    }
+
+    private Scenario pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private Attempt prepare(Scenario scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (scenario) {
+            case LOGIN -> {
+                int persona = random.nextInt(options.personas());
+                String email = random.nextBoolean() ? layout.clientEmail(persona) : layout.professionalEmail(persona);
+                yield new Attempt(scenario, post("/api/auth/login", null,
+                        Map.of("email", email, "password", options.password())), false, null);
+            }
+            case LIST_TASKS -> {
+                String[] tokens = random.nextBoolean() ? clientTokens : professionalTokens;
+                yield new Attempt(scenario, get("/api/tasks?size=20", tokens[random.nextInt(tokens.length)]), false, null);
+            }
+            case TASK_FEED -> new Attempt(scenario,
+                    get("/api/tasks/feed?size=20", professionalTokens[random.nextInt(professionalTokens.length)]), false, null);
+            case CREATE_PROPOSAL -> prepareProposal(random);
+            case ACCEPT_PROPOSAL -> prepareAccept();
+            case REVIEW -> prepareReview(random);
+        };
+    }
+
+    private Attempt prepareProposal(ThreadLocalRandom random) {
+        for (int i = 0; i < PICK_ATTEMPTS; i++) {
+            int clientIndex = random.nextInt(options.personas());
+            int professionalIndex = random.nextInt(options.personas());
+            long ownedTasks = layout.tasksOf(clientIndex);
+            if (ownedTasks == 0) {
+                continue;
+            }
+            long taskId = layout.taskOf(clientIndex, random.nextLong(ownedTasks));
+            if (!layout.status(taskId).equals(MarketplaceLayout.OPEN) || acceptedTasks.contains(taskId)
+                    || layout.hasSeededProposal(taskId, professionalIndex)
+                    || !proposedPairs.add(taskId * layout.professionals() + professionalIndex)) {
+                continue;
+            }
+            Map<String, Object> body = Map.of(
+                    "taskId", taskId,
+                    "message", "Load test proposal: available this week, similar jobs done before.",
+                    "proposedAmount", 80 + random.nextInt(40) * 5,
+                    "estimatedDuration", "1 day");
+            return new Attempt(Scenario.CREATE_PROPOSAL, post("/api/proposals", professionalTokens[professionalIndex], body),
+                    true, response -> pendingProposals.add(new PendingProposal(
+                    readId(response), taskId, clientIndex, professionalIndex)));
+        }
+        return null;
+    }
+
+    private Attempt prepareAccept() {
+        PendingProposal proposal;
+        while ((proposal = pendingProposals.poll()) != null) {
+            if (acceptedTasks.add(proposal.taskId())) {
+                PendingProposal accepted = proposal;
+                return new Attempt(Scenario.ACCEPT_PROPOSAL,
+                        post("/api/proposals/" + accepted.proposalId() + "/status", clientTokens[accepted.clientIndex()],
+                                Map.of("status", "ACCEPTED")),
+                        false, ignored -> reviewCandidates.add(new ReviewCandidate(accepted.taskId(),
+                        accepted.clientIndex(), layout.professionalId(accepted.professionalIndex()))));
+            }
+        }
+        return null;
+    }
+
+    private Attempt prepareReview(ThreadLocalRandom random) {
+        ReviewCandidate candidate = reviewCandidates.poll();
+        for (int i = 0; candidate == null && i < PICK_ATTEMPTS; i++) {
+            int clientIndex = random.nextInt(options.personas());
+            long ownedTasks = layout.tasksOf(clientIndex);
+            if (ownedTasks == 0) {
+                continue;
+            }
+            long taskId = layout.taskOf(clientIndex, random.nextLong(ownedTasks));
+            if (layout.status(taskId).equals(MarketplaceLayout.COMPLETED) && !layout.hasSeededReviews(taskId)
+                    && reviewedTasks.add(taskId)) {
+                candidate = new ReviewCandidate(taskId, clientIndex,
+                        layout.professionalId(layout.assignedProfessional(taskId)));
+            }
+        }
+        if (candidate == null) {
+            return null;
+        }
+        Map<String, Object> body = Map.of(
+                "taskId", candidate.taskId(),
+                "revieweeId", candidate.revieweeId(),
+                "rating", 3 + random.nextInt(3),
+                "comment", "Load test review.");
+        return new Attempt(Scenario.REVIEW, post("/api/reviews", clientTokens[candidate.clientIndex()], body), false, null);
+    }
+
+    private void loginPersonas() throws Exception {
+        List<Callable<String>> logins = new ArrayList<>();
+        for (int i = 0; i < options.personas(); i++) {
+            String clientEmail = layout.clientEmail(i);
+            String professionalEmail = layout.professionalEmail(i);
+            logins.add(() -> login(clientEmail));
+            logins.add(() -> login(professionalEmail));
+        }
+        clientTokens = new String[options.personas()];
+        professionalTokens = new String[options.personas()];
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            List<Future<String>> tokens = executor.invokeAll(logins);
+            for (int i = 0; i < options.personas(); i++) {
+                clientTokens[i] = tokens.get(2 * i).get();
+                professionalTokens[i] = tokens.get(2 * i + 1).get();
+            }
+        }
+        System.out.printf("Logged in %d client and %d professional personas%n", options.personas(), options.personas());
+    }
+
+    private String login(String email) throws IOException, InterruptedException {
+        HttpRequest request = post("/api/auth/login", null, Map.of("email", email, "password", options.password()));
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login of " + email + " failed with HTTP " + response.statusCode()
+                    + "; was the database seeded with the same counts and password?");
+        }
+        return mapper.readTree(response.body()).get("token").asText();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Map<String, ?> body) {
+        try {
+            return builder(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                .timeout(options.requestTimeout());
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private long readId(String body) {
+        try {
+            return mapper.readTree(body).get("id").asLong();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void report(Map<Scenario, Histogram> totals, double seconds) throws IOException {
+        long requests = totals.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        System.out.printf("%n%s: %d requests in %.1fs = %.0f req/s, %d transport failures%n",
+                options.label(), requests, seconds, requests / seconds, failures.sum());
+        System.out.printf("%-16s %9s %8s %9s %9s %9s %9s %9s  %s%n",
+                "scenario", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses / fallbacks");
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = totals.get(scenario);
+            if (histogram.getTotalCount() == 0 && fallbacks.get(scenario).sum() == 0) {
+                continue;
+            }
+            System.out.printf("%-16s %9d %8.0f %9.2f %9.2f %9.2f %9.2f %9.2f  %s / %d%n", scenario.label(),
+                    histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0, statuses.get(scenario), fallbacks.get(scenario).sum());
+        }
+        if (options.outputDir() != null) {
+            Path directory = Files.createDirectories(Path.of(options.outputDir()));
+            for (Scenario scenario : Scenario.values()) {
+                if (totals.get(scenario).getTotalCount() == 0) {
+                    continue;
+                }
+                Path file = directory.resolve(options.label() + "-" + scenario.label() + ".hgrm");
+                try (PrintStream out = new PrintStream(new FileOutputStream(file.toFile()))) {
+                    totals.get(scenario).outputPercentileDistribution(out, 1000.0);
+                }
+            }
+            System.out.println("percentile distributions (ms) written to " + directory);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+}
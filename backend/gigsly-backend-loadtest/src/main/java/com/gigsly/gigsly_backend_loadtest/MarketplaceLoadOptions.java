@@ -0,0 +1,71 @@
+package com.gigsly.gigsly_backend_loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// --name=value options of the `mix` command; see README.md. The marketplace counts must match the seed run.
+public record MarketplaceLoadOptions(URI baseUrl,
+                                     int concurrency,
+                                     Duration warmup,
+                                     Duration duration,
+                                     double rate,
+                                     Map<Scenario, Integer> mix,
+                                     int personas,
+                                     String password,
+                                     Duration requestTimeout,
+                                     String label,
+                                     String outputDir,
+                                     MarketplaceLayout layout) {
+
+    private static final String DEFAULT_MIX =
+            "login:2,list-tasks:45,task-feed:20,create-proposal:18,accept-proposal:10,review:5";
+
+    public static MarketplaceLoadOptions parse(String[] args) {
+        Map<String, String> values = LoadTestOptions.values(args);
+        MarketplaceLayout layout = MarketplaceLayout.from(values);
+        int personas = Integer.parseInt(values.getOrDefault("personas", "100"));
+        if (personas > layout.clients() || personas > layout.professionals()) {
+            throw new IllegalArgumentException("personas cannot exceed clients or professionals");
+        }
+        return new MarketplaceLoadOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8081")),
+                Integer.parseInt(values.getOrDefault("concurrency", "200")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "120"))),
+                Double.parseDouble(values.getOrDefault("rate", "0")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                personas,
+                values.getOrDefault("password", "loadtest-password"),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout-seconds", "30"))),
+                values.getOrDefault("label", "mix"),
+                values.get("output-dir"),
+                layout);
+    }
+
+    public boolean openLoop() {
+        return rate > 0;
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:weight in --mix, got " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.fromLabel(parts[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one scenario with a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,313 @@
+package com.gigsly.gigsly_backend_loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Replaces the contents of an API database with the synthetic marketplace described by MarketplaceLayout,
+// streaming every table through COPY. The schema must already exist: start the API against the database once
+// first. Denormalized user stats are left to the API's startup reconcile. The skill dictionary and both link tables
+// are written here, so the API's startup skill backfill finds nothing to link.
+public final class MarketplaceSeeder {
+
+    private static final String[] CITIES = {"Austin, TX", "Denver, CO", "Portland, OR", "Raleigh, NC", "Madison, WI",
+            "Tucson, AZ", "Columbus, OH", "Boise, ID"};
+    private static final String[] JOBS = {"Fix leaking kitchen sink", "Paint two bedrooms", "Assemble office furniture",
+            "Replace bathroom tiles", "Mow and edge lawn", "Install ceiling fan", "Deep clean apartment",
+            "Repair fence panels", "Move a studio across town", "Patch drywall holes"};
+    private static final String[] DURATIONS = {"2-3 hours", "half a day", "1 day", "2 days", "1 week"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "MEDIUM", "HIGH", "URGENT"};
+
+    private final MarketplaceLayout layout;
+    private final String jdbcUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final String passwordHash;
+    private final SplittableRandom random;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    private final long taskSpacingSeconds;
+
+    private MarketplaceSeeder(Map<String, String> values) {
+        this.layout = MarketplaceLayout.from(values);
+        this.jdbcUrl = values.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/Gigsly");
+        this.dbUser = values.getOrDefault("db-user", "postgres");
+        this.dbPassword = values.getOrDefault("db-password", System.getenv().getOrDefault("DB_PASSWORD", ""));
+        int strength = Integer.parseInt(values.getOrDefault("bcrypt-strength", "10"));
+        String password = values.getOrDefault("password", "loadtest-password");
+        // One hash shared by every user: hashing millions of passwords would take longer than the load.
+        this.passwordHash = "{bcrypt}" + new BCryptPasswordEncoder(strength).encode(password);
+        this.random = new SplittableRandom(Long.parseLong(values.getOrDefault("seed", "42")));
+        this.taskSpacingSeconds = Math.max(1, ChronoUnit.SECONDS.between(now.minusDays(365), now) / Math.max(1, layout.tasks()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new MarketplaceSeeder(LoadTestOptions.values(args)).run();
+    }
+
+    private void run() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
+            requireSchema(connection);
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET synchronous_commit = off");
+                statement.execute("TRUNCATE users, categories, skills, token_revocations, contact_queries "
+                        + "RESTART IDENTITY CASCADE");
+            }
+            connection.commit();
+
+            CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+            timed(connection, "categories", () -> copyCategories(copy));
+            timed(connection, "skills", () -> copySkills(copy));
+            timed(connection, "users", () -> copyUsers(copy));
+            timed(connection, "user_skills", () -> copyUserSkills(copy));
+            timed(connection, "tasks", () -> copyTasks(copy));
+            timed(connection, "task_skills", () -> copyTaskSkills(copy));
+            timed(connection, "proposals", () -> copyProposals(copy));
+            timed(connection, "reviews", () -> copyReviews(copy));
+
+            try (Statement statement = connection.createStatement()) {
+                for (String table : new String[]{"categories", "skills", "users", "tasks", "proposals", "reviews"}) {
+                    statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                            + "(SELECT coalesce(max(id), 0) + 1 FROM " + table + "), false)");
+                }
+            }
+            connection.commit();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+        System.out.printf("Seeded %s%nEvery user shares the seed password, e.g. %s or %s.%n", layout,
+                layout.clientEmail(0), layout.professionalEmail(0));
+    }
+
+    private long copyCategories(CopyManager copyManager) throws SQLException {
+        try (CopyWriter copy = new CopyWriter(copyManager, "categories",
+                "id, name, description, icon_url, is_active, created_at, updated_at")) {
+            for (int i = 1; i <= layout.categories(); i++) {
+                LocalDateTime created = now.minusDays(500).plusHours(i);
+                copy.field(i).field("Category " + i).field("Synthetic category " + i)
+                        .field("https://cdn.loadtest.gigsly.dev/categories/" + i + ".svg")
+                        .field(true).field(created).field(created);
+                copy.endRow();
+            }
+            return copy.rows();
+        }
+    }
+
+    private long copySkills(CopyManager copyManager) throws SQLException {
+        try (CopyWriter copy = new CopyWriter(copyManager, "skills", "id, name, created_at")) {
+            for (int i = 0; i < MarketplaceLayout.SKILLS.size(); i++) {
+                copy.field(layout.skillId(i)).field(MarketplaceLayout.SKILLS.get(i)).field(now.minusDays(500));
+                copy.endRow();
+            }
+            return copy.rows();
+        }
+    }
+
+    private long copyUserSkills(CopyManager copyManager) throws SQLException {
+        try (CopyWriter copy = new CopyWriter(copyManager, "user_skills", "user_id, skill_id")) {
+            for (int i = 0; i < layout.professionals(); i++) {
+                for (int skill : layout.professionalSkills(i)) {
+                    copy.field(layout.professionalId(i)).field(layout.skillId(skill));
+                    copy.endRow();
+                }
+            }
+            return copy.rows();
+        }
+    }
+
+    private long copyTaskSkills(CopyManager copyManager) throws SQLException {
+        try (CopyWriter copy = new CopyWriter(copyManager, "task_skills", "task_id, skill_id")) {
+            for (long id = 1; id <= layout.tasks(); id++) {
+                for (int skill : layout.taskSkills(id)) {
+                    copy.field(id).field(layout.skillId(skill));
+                    copy.endRow();
+                }
+            }
+            return copy.rows();
+        }
+    }
+
+    private long copyUsers(CopyManager copyManager) throws SQLException {
+        try (CopyWriter copy = new CopyWriter(copyManager, "users",
+                "id, full_name, email, password, mobile, primary_category, skills, hourly_rate, location, role, bio, "
+                        + "profile_picture_url, is_verified, is_active, review_count, rating_sum, completed_projects, "
+                        + "created_at, updated_at")) {
+            for (int i = 0; i < layout.clients(); i++) {
+                user(copy, layout.clientId(i), "Client " + i, layout.clientEmail(i), null);
+            }
+            for (int i = 0; i < layout.professionals(); i++) {
+                user(copy, layout.professionalId(i), "Professional " + i, layout.professionalEmail(i),
+                        layout.professionalSkills(i));
+            }
+            return copy.rows();
+        }
+    }
+
+    // Clients have no skills; professionals have their layout skills.
+    private void user(CopyWriter copy, long id, String name, String email, int[] skills) throws SQLException {
+        boolean professional = skills != null;
+        LocalDateTime created = now.minusDays(400).plusSeconds(id);
+        copy.field(id).field(name).field(email).field(passwordHash)
+                .field("+1555" + String.format("%07d", id % 10_000_000))
+                .field(professional ? "Category " + (1 + id % layout.categories()) : null)
+                .field(professional ? skillNames(skills) : null)
+                .field(professional ? new BigDecimal(25 + random.nextInt(100) + ".00") : null)
+                .field(pick(CITIES))
+                .field(professional ? "PROFESSIONAL" : "CLIENT")
+                .field(professional ? "Experienced and insured, happy to take small and large jobs." : null)
+                .field(null)
+                .field(professional && random.nextInt(4) > 0)
+                .field(true)
+                .field(0).field(0).field(0)
+                .field(created).field(created);
+        copy.endRow();
+    }
+
+    private long copyTasks(CopyManager copyManager) throws SQLException {
+        try (CopyWriter copy = new CopyWriter(copyManager, "tasks",
+                "id, title, description, client_id, category_id, budget_min, budget_max, status, priority_level, "
+                        + "deadline, required_skills, location, is_remote, estimated_duration, "
+                        + "assigned_professional_id, completed_at, created_at, updated_at")) {
+            for (long id = 1; id <= layout.tasks(); id++) {
+                String status = layout.status(id);
+                int assigned = layout.assignedProfessional(id);
+                LocalDateTime created = taskCreatedAt(id);
+                LocalDateTime completed = status.equals(MarketplaceLayout.COMPLETED) ? min(created.plusDays(3)) : null;
+                int budget = 50 + random.nextInt(20) * 25;
+                copy.field(id)
+                        .field(pick(JOBS) + " #" + id)
+                        .field("Synthetic task " + id + ": " + pick(JOBS).toLowerCase()
+                                + ". Materials are on site; please bring your own tools.")
+                        .field(layout.clientId(layout.clientIndexOf(id)))
+                        .field(layout.categoryId(id))
+                        .field(new BigDecimal(budget + ".00"))
+                        .field(new BigDecimal((budget * 2) + ".00"))
+                        .field(status)
+                        .field(pick(PRIORITIES))
+                        .field(created.plusDays(7 + random.nextInt(30)))
+                        .field(skillNames(layout.taskSkills(id)))
+                        .field(pick(CITIES))
+                        .field(random.nextInt(10) == 0)
+                        .field(pick(DURATIONS))
+                        .field(assigned < 0 ? null : layout.professionalId(assigned))
+                        .field(completed)
+                        .field(created)
+                        .field(completed != null ? completed : created);
+                copy.endRow();
+            }
+            return copy.rows();
+        }
+    }
+
+    private long copyProposals(CopyManager copyManager) throws SQLException {
+        try (CopyWriter copy = new CopyWriter(copyManager, "proposals",
+                "id, task_id, professional_id, message, proposed_amount, estimated_duration, status, created_at, "
+                        + "updated_at, accepted_at, rejected_at")) {
+            long proposalId = 0;
+            for (long taskId = 1; taskId <= layout.tasks(); taskId++) {
+                boolean assigned = layout.assignedProfessional(taskId) >= 0;
+                LocalDateTime taskCreated = taskCreatedAt(taskId);
+                for (int k = 0; k < layout.proposalsPerTask(); k++) {
+                    LocalDateTime created = min(taskCreated.plusHours(k + 1));
+                    String status = !assigned ? "PENDING" : k == 0 ? "ACCEPTED" : "REJECTED";
+                    LocalDateTime decided = assigned ? min(created.plusHours(2)) : null;
+                    copy.field(++proposalId)
+                            .field(taskId)
+                            .field(layout.professionalId(layout.proposer(taskId, k)))
+                            .field("I can start this week and have done similar jobs many times.")
+                            .field(new BigDecimal(60 + random.nextInt(40) * 10 + ".00"))
+                            .field(pick(DURATIONS))
+                            .field(status)
+                            .field(created)
+                            .field(decided != null ? decided : created)
+                            .field(k == 0 && assigned ? decided : null)
+                            .field(k > 0 && assigned ? decided : null);
+                    copy.endRow();
+                }
+            }
+            return copy.rows();
+        }
+    }
+
+    private long copyReviews(CopyManager copyManager) throws SQLException {
+        try (CopyWriter copy = new CopyWriter(copyManager, "reviews",
+                "id, task_id, reviewer_id, reviewee_id, rating, comment, created_at, updated_at")) {
+            long reviewId = 0;
+            for (long taskId = 1; taskId <= layout.tasks(); taskId++) {
+                if (!layout.hasSeededReviews(taskId)) {
+                    continue;
+                }
+                long clientId = layout.clientId(layout.clientIndexOf(taskId));
+                long professionalId = layout.professionalId(layout.assignedProfessional(taskId));
+                LocalDateTime created = min(taskCreatedAt(taskId).plusDays(4));
+                copy.field(++reviewId).field(taskId).field(clientId).field(professionalId)
+                        .field(3 + random.nextInt(3)).field("Great work, on time and tidy.")
+                        .field(created).field(created);
+                copy.endRow();
+                copy.field(++reviewId).field(taskId).field(professionalId).field(clientId)
+                        .field(4 + random.nextInt(2)).field("Clear instructions and quick payment.")
+                        .field(created).field(created);
+                copy.endRow();
+            }
+            return copy.rows();
+        }
+    }
+
+    private LocalDateTime taskCreatedAt(long taskId) {
+        return now.minusSeconds((layout.tasks() - taskId + 1) * taskSpacingSeconds);
+    }
+
+    private LocalDateTime min(LocalDateTime time) {
+        return time.isAfter(now) ? now : time;
+    }
+
+    private static String skillNames(int[] skills) {
+        StringBuilder names = new StringBuilder();
+        for (int skill : skills) {
+            if (!names.isEmpty()) {
+                names.append(',');
+            }
+            names.append(MarketplaceLayout.SKILLS.get(skill));
+        }
+        return names.toString();
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static void requireSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT to_regclass('public.tasks') IS NOT NULL")) {
+            if (!result.next() || !result.getBoolean(1)) {
+                throw new IllegalStateException("No API schema in this database; start the API against it once first");
+            }
+        }
+    }
+
+    private static void timed(Connection connection, String table, CopyStep step) throws SQLException {
+        long start = System.nanoTime();
+        long rows = step.copy();
+        connection.commit();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-10s %,12d rows in %6.1fs (%,.0f rows/s)%n", table, rows, seconds, rows / seconds);
+    }
+
+    @FunctionalInterface
+    private interface CopyStep {
+        long copy() throws SQLException;
+    }
+}
@@ -0,0 +1,21 @@
+package com.gigsly.gigsly_backend_loadtest;
+
+import java.util.Locale;
+
+// One user action of the marketplace mix; each is recorded in its own histogram.
+enum Scenario {
+    LOGIN,
+    LIST_TASKS,
+    TASK_FEED,
+    CREATE_PROPOSAL,
+    ACCEPT_PROPOSAL,
+    REVIEW;
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    static Scenario fromLabel(String label) {
+        return valueOf(label.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
@@ -0,0 +1,136 @@
+package com.gigsly.gigsly_backend_loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Time from launching the API process until its readiness probe answers, over several cold starts, and the
+// process's resident set size at that moment (Linux).
+// The command after `--` is started fresh for every run and stopped once it is ready:
+//   startup --label=cds --runs=5 -- ./gigsly-backend-api/faststart.sh run cds
+// Polling starts immediately, so the figure includes JVM start, context refresh and the ready listeners that load
+// the in-memory indexes; readiness only turns UP after all of them have returned. That is what a node added by the
+// autoscaler costs before the load balancer sends it traffic. Polling an API path instead would stop the clock
+// too early: /api/categories, for one, is answered while the task and professional indexes are still loading.
+public final class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final String label;
+    private final URI url;
+    private final int runs;
+    private final Duration timeout;
+    private final File log;
+    private final List<String> command;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    private StartupBenchmark(Map<String, String> values, List<String> command) {
+        this.label = values.getOrDefault("label", "startup");
+        this.url = URI.create(values.getOrDefault("url", "http://localhost:8081/readyz"));
+        this.runs = Integer.parseInt(values.getOrDefault("runs", "5"));
+        this.timeout = Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout-seconds", "120")));
+        this.log = new File(values.getOrDefault("log", label + "-startup.log"));
+        this.command = command;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 0 || separator == args.length - 1) {
+            throw new IllegalArgumentException("Expected startup [--name=value ...] -- <command to start the API>");
+        }
+        Map<String, String> values = LoadTestOptions.values(Arrays.copyOfRange(args, 0, separator));
+        List<String> command = List.of(Arrays.copyOfRange(args, separator + 1, args.length));
+        new StartupBenchmark(values, command).run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("%s: %d cold starts of %s, ready on %s%n", label, runs, String.join(" ", command), url);
+        List<Double> seconds = new ArrayList<>();
+        List<Long> rssKb = new ArrayList<>();
+        for (int i = 1; i <= runs; i++) {
+            Sample sample = measure();
+            seconds.add(sample.seconds());
+            rssKb.add(sample.rssKb());
+            System.out.printf("  run %d: %.3f s, rss %s%n", i, sample.seconds(), megabytes(sample.rssKb()));
+        }
+        seconds.sort(null);
+        rssKb.sort(null);
+        System.out.printf("%s: time to ready  min %.3f s  median %.3f s  max %.3f s%n",
+                label, seconds.getFirst(), seconds.get(seconds.size() / 2), seconds.getLast());
+        System.out.printf("%s: rss when ready  median %s%n", label, megabytes(rssKb.get(rssKb.size() / 2)));
+    }
+
+    private record Sample(double seconds, long rssKb) {
+    }
+
+    private Sample measure() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(5)).GET().build();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.to(log))
+                .start();
+        try {
+            while (true) {
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        return new Sample((System.nanoTime() - start) / 1e9, rssKb(process.pid()));
+                    }
+                } catch (IOException ex) {
+                    // Not listening yet.
+                }
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("API exited with status " + process.exitValue() + ", see " + log);
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Not ready within " + timeout + ", see " + log);
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+        } finally {
+            stop(process);
+        }
+    }
+
+    // VmRSS from /proc; -1 where that is not available. The launch scripts exec the JVM or binary, so the pid is
+    // the API itself.
+    private static long rssKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException ex) {
+            // Not Linux, or the process is gone.
+        }
+        return -1;
+    }
+
+    private static String megabytes(long kb) {
+        return kb < 0 ? "n/a" : String.format("%.0f MB", kb / 1024.0);
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+import { Button } from '@/components/ui/button';
+
+interface LoadMoreButtonProps {
+  hasNextPage: boolean;
+  isFetchingNextPage: boolean;
+  onLoadMore: () => void;
+}
+
+const LoadMoreButton = ({ hasNextPage, isFetchingNextPage, onLoadMore }: LoadMoreButtonProps) => {
+  if (!hasNextPage) return null;
+  return (
+    <div className="flex justify-center pt-2">
+      <Button variant="outline" onClick={onLoadMore} disabled={isFetchingNextPage}>
+        {isFetchingNextPage ? 'Loading…' : 'Load more'}
+      </Button>
+    </div>
+  );
+};
+
+export default LoadMoreButton;
@@ -77,6 +77,12 @@ export const AuthProvider = ({ children }: { children: ReactNode }) => {
   };
 
   const logout = () => {
+    const currentToken = authStorage.getToken();
+    if (currentToken) {
+      api
+        .post('/auth/logout', null, { headers: { Authorization: `Bearer ${currentToken}` } })
+        .catch(() => undefined);
+    }
     authStorage.clear();
     setUser(null);
     setToken(null);
@@ -0,0 +1,30 @@
+import { useMemo } from 'react';
+import { useInfiniteQuery, type QueryKey } from '@tanstack/react-query';
+import api from '@/lib/api';
+import type { CursorPage } from '@/types/api';
+
+interface CursorListOptions {
+  queryKey: QueryKey;
+  path: string;
+  params?: Record<string, unknown>;
+  size?: number;
+  enabled?: boolean;
+}
+
+// One page of a cursor-paginated listing at a time; `items` holds every page loaded so far.
+export function useCursorList<T>({ queryKey, path, params, size = 20, enabled = true }: CursorListOptions) {
+  const query = useInfiniteQuery({
+    queryKey,
+    queryFn: async ({ pageParam }) => {
+      const { data } = await api.get<CursorPage<T>>(path, { params: { ...params, size, cursor: pageParam } });
+      return data;
+    },
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => (lastPage.hasMore && lastPage.nextCursor ? lastPage.nextCursor : undefined),
+    enabled,
+  });
+
+  const items = useMemo(() => query.data?.pages.flatMap((page) => page.items) ?? [], [query.data]);
+
+  return { ...query, items };
+}
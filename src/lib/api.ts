@@ -1,5 +1,6 @@
 import axios from 'axios';
 import { authStorage } from './auth-storage';
+import type { CursorPage } from '@/types/api';
 
 const baseUrl = (import.meta.env.VITE_API_BASE_URL as string | undefined) ?? 'http://localhost:8081';
 
@@ -25,5 +26,17 @@ api.interceptors.response.use(
   }
 );
 
+// Follows nextCursor until the listing is exhausted; only for short lists a form needs in full (categories).
+export const fetchAllPages = async <T>(path: string, params: Record<string, unknown> = {}): Promise<T[]> => {
+  const items: T[] = [];
+  let cursor: string | undefined;
+  do {
+    const { data } = await api.get<CursorPage<T>>(path, { params: { ...params, size: 100, cursor } });
+    items.push(...data.items);
+    cursor = data.hasMore && data.nextCursor ? data.nextCursor : undefined;
+  } while (cursor);
+  return items;
+};
+
 export default api;
 
@@ -1,4 +1,4 @@
-import { useMemo, useState } from 'react';
+import { useEffect, useMemo, useState } from 'react';
 import Navbar from '@/components/Navbar';
 import Footer from '@/components/Footer';
 import { Card, CardContent } from '@/components/ui/card';
@@ -14,6 +14,8 @@ import { useQuery } from '@tanstack/react-query';
 import api from '@/lib/api';
 import type { TaskResponse } from '@/types/api';
 import { useAuth } from '@/contexts/AuthContext';
+import { useCursorList } from '@/hooks/use-cursor-list';
+import LoadMoreButton from '@/components/LoadMoreButton';
 
 const BrowseTasks = () => {
   const { toast } = useToast();
@@ -24,15 +26,35 @@ const BrowseTasks = () => {
   const [estimatedDuration, setEstimatedDuration] = useState('');
   const [selectedCategory, setSelectedCategory] = useState<string>('All');
   const [isSubmitting, setIsSubmitting] = useState(false);
+  const [searchText, setSearchText] = useState('');
+  const [searchQuery, setSearchQuery] = useState('');
 
-  const { data: tasks } = useQuery({
+  useEffect(() => {
+    const timeout = setTimeout(() => setSearchQuery(searchText.trim()), 300);
+    return () => clearTimeout(timeout);
+  }, [searchText]);
+
+  const openTasks = useCursorList<TaskResponse>({
     queryKey: ['tasks', 'OPEN'],
+    path: '/tasks',
+    params: { status: 'OPEN' },
+    enabled: !searchQuery,
+  });
+
+  // Search returns the best matches by relevance, not a cursor page.
+  const { data: searchResults } = useQuery({
+    queryKey: ['tasks', 'search', searchQuery],
     queryFn: async () => {
-      const { data } = await api.get<TaskResponse[]>('/tasks', { params: { status: 'OPEN' } });
+      const { data } = await api.get<TaskResponse[]>('/tasks/search', {
+        params: { q: searchQuery, status: 'OPEN', size: 100 },
+      });
       return data;
     },
+    enabled: !!searchQuery,
   });
 
+  const tasks = searchQuery ? searchResults : openTasks.items;
+
   const categories = useMemo(() => {
     const unique = new Set<string>();
     tasks?.forEach((task) => {
@@ -111,6 +133,14 @@ const BrowseTasks = () => {
               : 'Switch to a professional account to apply for tasks'}
           </p>
 
+          <div className="max-w-xl mx-auto mb-6">
+            <Input
+              value={searchText}
+              onChange={(event) => setSearchText(event.target.value)}
+              placeholder="Search tasks by title, description or skills"
+            />
+          </div>
+
           <div className="flex flex-wrap gap-3 justify-center mb-12 animate-scale-in">
             {categories.map((category) => (
               <Button
@@ -174,6 +204,13 @@ const BrowseTasks = () => {
                 </CardContent>
               </Card>
             ))}
+            {!searchQuery && (
+              <LoadMoreButton
+                hasNextPage={openTasks.hasNextPage}
+                isFetchingNextPage={openTasks.isFetchingNextPage}
+                onLoadMore={() => openTasks.fetchNextPage()}
+              />
+            )}
           </div>
         </div>
       </section>
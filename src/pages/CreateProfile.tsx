@@ -12,7 +12,7 @@ import { X } from 'lucide-react';
 import { useAuth } from '@/contexts/AuthContext';
 import { useToast } from '@/hooks/use-toast';
 import { useQuery } from '@tanstack/react-query';
-import api from '@/lib/api';
+import api, { fetchAllPages } from '@/lib/api';
 import type { CategoryResponse } from '@/types/api';
 
 const CreateProfile = () => {
@@ -31,10 +31,7 @@ const CreateProfile = () => {
 
   const { data: categories } = useQuery({
     queryKey: ['categories'],
-    queryFn: async () => {
-      const { data } = await api.get<CategoryResponse[]>('/categories');
-      return data;
-    },
+    queryFn: () => fetchAllPages<CategoryResponse>('/categories'),
   });
 
   useEffect(() => {
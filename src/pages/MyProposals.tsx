@@ -3,23 +3,27 @@ import Footer from '@/components/Footer';
 import { Card, CardContent } from '@/components/ui/card';
 import { Badge } from '@/components/ui/badge';
 import { Button } from '@/components/ui/button';
-import { useQuery, useQueryClient } from '@tanstack/react-query';
-import api from '@/lib/api';
+import { useQueryClient } from '@tanstack/react-query';
 import type { ProposalResponse } from '@/types/api';
 import { useToast } from '@/hooks/use-toast';
 import { useAuth } from '@/contexts/AuthContext';
+import { useCursorList } from '@/hooks/use-cursor-list';
+import LoadMoreButton from '@/components/LoadMoreButton';
 
 const MyProposals = () => {
   const { user } = useAuth();
   const queryClient = useQueryClient();
   const { toast } = useToast();
 
-  const { data: proposals = [], isLoading } = useQuery({
+  const {
+    items: proposals,
+    isLoading,
+    hasNextPage,
+    isFetchingNextPage,
+    fetchNextPage,
+  } = useCursorList<ProposalResponse>({
     queryKey: ['myProposals'],
-    queryFn: async () => {
-      const { data } = await api.get<ProposalResponse[]>('/proposals/mine');
-      return data;
-    },
+    path: '/proposals/mine',
   });
 
   const refresh = () => queryClient.invalidateQueries({ queryKey: ['myProposals'] });
@@ -53,28 +57,35 @@ const MyProposals = () => {
               </CardContent>
             </Card>
           ) : (
-            proposals.map((proposal) => (
-              <Card key={proposal.id} className="glass-card border-0">
-                <CardContent className="p-6 space-y-3">
-                  <div className="flex items-center justify-between">
-                    <div>
-                      <p className="text-lg font-semibold">{proposal.taskTitle}</p>
-                      <p className="text-sm text-muted-foreground">Status: <Badge variant="outline">{proposal.status}</Badge></p>
+            <>
+              {proposals.map((proposal) => (
+                <Card key={proposal.id} className="glass-card border-0">
+                  <CardContent className="p-6 space-y-3">
+                    <div className="flex items-center justify-between">
+                      <div>
+                        <p className="text-lg font-semibold">{proposal.taskTitle}</p>
+                        <p className="text-sm text-muted-foreground">Status: <Badge variant="outline">{proposal.status}</Badge></p>
+                      </div>
+                      <Button variant="outline" size="sm" onClick={refresh}>
+                        Refresh
+                      </Button>
                     </div>
-                    <Button variant="outline" size="sm" onClick={refresh}>
-                      Refresh
-                    </Button>
-                  </div>
-                  <p className="text-muted-foreground">{proposal.message}</p>
-                  <div className="flex flex-wrap gap-4 text-sm text-muted-foreground">
-                    {proposal.proposedAmount && <span>Bid: ₹{proposal.proposedAmount}</span>}
-                    {proposal.estimatedDuration && <span>Timeline: {proposal.estimatedDuration}</span>}
-                    {proposal.acceptedAt && <span>Accepted: {new Date(proposal.acceptedAt).toLocaleDateString()}</span>}
-                    {proposal.rejectedAt && <span>Rejected: {new Date(proposal.rejectedAt).toLocaleDateString()}</span>}
-                  </div>
-                </CardContent>
-              </Card>
-            ))
+                    <p className="text-muted-foreground">{proposal.message}</p>
+                    <div className="flex flex-wrap gap-4 text-sm text-muted-foreground">
+                      {proposal.proposedAmount && <span>Bid: ₹{proposal.proposedAmount}</span>}
+                      {proposal.estimatedDuration && <span>Timeline: {proposal.estimatedDuration}</span>}
+                      {proposal.acceptedAt && <span>Accepted: {new Date(proposal.acceptedAt).toLocaleDateString()}</span>}
+                      {proposal.rejectedAt && <span>Rejected: {new Date(proposal.rejectedAt).toLocaleDateString()}</span>}
+                    </div>
+                  </CardContent>
+                </Card>
+              ))}
+              <LoadMoreButton
+                hasNextPage={hasNextPage}
+                isFetchingNextPage={isFetchingNextPage}
+                onLoadMore={() => fetchNextPage()}
+              />
+            </>
           )}
         </div>
       </section>
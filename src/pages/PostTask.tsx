@@ -11,7 +11,7 @@ import { Checkbox } from "@/components/ui/checkbox";
 import { useQuery } from '@tanstack/react-query';
 import { useAuth } from '@/contexts/AuthContext';
 import { useToast } from '@/hooks/use-toast';
-import api from '@/lib/api';
+import api, { fetchAllPages } from '@/lib/api';
 import type { CategoryResponse } from '@/types/api';
 
 const PostTask = () => {
@@ -33,10 +33,7 @@ const PostTask = () => {
 
   const { data: categories } = useQuery({
     queryKey: ['categories'],
-    queryFn: async () => {
-      const { data } = await api.get<CategoryResponse[]>('/categories');
-      return data;
-    },
+    queryFn: () => fetchAllPages<CategoryResponse>('/categories'),
   });
 
   const disabled = user?.role !== 'CLIENT' && user?.role !== 'ADMIN';
@@ -12,10 +12,12 @@ import { Textarea } from '@/components/ui/textarea';
 import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from '@/components/ui/select';
 import { Mail, Phone, MapPin, Star } from 'lucide-react';
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
-import api from '@/lib/api';
+import api, { fetchAllPages } from '@/lib/api';
 import type { ApiUser, CategoryResponse } from '@/types/api';
 import { useAuth } from '@/contexts/AuthContext';
 import { useToast } from '@/hooks/use-toast';
+import { useCursorList } from '@/hooks/use-cursor-list';
+import LoadMoreButton from '@/components/LoadMoreButton';
 
 const Professionals = () => {
   const [searchParams] = useSearchParams();
@@ -39,20 +41,20 @@ const Professionals = () => {
     requiredSkills: '',
   });
 
-  const { data: professionals = [] } = useQuery({
+  const {
+    items: professionals,
+    hasNextPage,
+    isFetchingNextPage,
+    fetchNextPage,
+  } = useCursorList<ApiUser>({
     queryKey: ['professionals'],
-    queryFn: async () => {
-      const { data } = await api.get<ApiUser[]>('/users', { params: { role: 'PROFESSIONAL' } });
-      return data;
-    },
+    path: '/users',
+    params: { role: 'PROFESSIONAL' },
   });
 
   const { data: categories = [] } = useQuery({
     queryKey: ['categories'],
-    queryFn: async () => {
-      const { data } = await api.get<CategoryResponse[]>('/categories');
-      return data;
-    },
+    queryFn: () => fetchAllPages<CategoryResponse>('/categories'),
   });
 
   const hireMutation = useMutation({
@@ -204,6 +206,13 @@ const Professionals = () => {
               </Card>
             ))}
           </div>
+          <div className="mt-6">
+            <LoadMoreButton
+              hasNextPage={hasNextPage}
+              isFetchingNextPage={isFetchingNextPage}
+              onLoadMore={() => fetchNextPage()}
+            />
+          </div>
         </div>
       </section>
 
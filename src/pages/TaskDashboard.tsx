@@ -11,6 +11,8 @@ import api from '@/lib/api';
 import type { ApiUser, ProposalResponse, TaskResponse } from '@/types/api';
 import { useToast } from '@/hooks/use-toast';
 import { useAuth } from '@/contexts/AuthContext';
+import { useCursorList } from '@/hooks/use-cursor-list';
+import LoadMoreButton from '@/components/LoadMoreButton';
 
 const TaskDashboard = () => {
   const { user } = useAuth();
@@ -70,12 +72,15 @@ const TaskDashboard = () => {
     },
   });
 
-  const { data: professionals = [] } = useQuery({
+  const {
+    items: professionals,
+    hasNextPage,
+    isFetchingNextPage,
+    fetchNextPage,
+  } = useCursorList<ApiUser>({
     queryKey: ['professionals'],
-    queryFn: async () => {
-      const { data } = await api.get<ApiUser[]>('/users', { params: { role: 'PROFESSIONAL' } });
-      return data;
-    },
+    path: '/users',
+    params: { role: 'PROFESSIONAL' },
     enabled: !!taskToAssign,
   });
 
@@ -311,6 +316,11 @@ const TaskDashboard = () => {
                     </CardContent>
                   </Card>
                 ))}
+                <LoadMoreButton
+                  hasNextPage={hasNextPage}
+                  isFetchingNextPage={isFetchingNextPage}
+                  onLoadMore={() => fetchNextPage()}
+                />
               </div>
             )}
           </div>
@@ -1,5 +1,12 @@
 export type UserRole = 'CLIENT' | 'PROFESSIONAL' | 'ADMIN';
 
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor?: string | null;
+  size: number;
+  hasMore: boolean;
+}
+
 export interface ApiUser {
   id: number;
   fullName: string;